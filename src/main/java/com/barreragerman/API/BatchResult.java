@@ -0,0 +1,56 @@
+package com.barreragerman.API;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * One entry of a Trello {@code /1/batch} response. Successful entries come wrapped as
+ * {@code {"200": {...}}}; failed ones carry their own {@code statusCode}.
+ */
+public class BatchResult {
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final String url;
+    private final int statusCode;
+    private final Map<String, Object> body;
+
+    private BatchResult(String url, int statusCode, Map<String, Object> body) {
+        this.url = url;
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    @SuppressWarnings("unchecked")
+    static BatchResult from(String url, Map<String, Object> entry) {
+        Object ok = entry.get("200");
+        if (ok instanceof Map) {
+            return new BatchResult(url, 200, (Map<String, Object>) ok);
+        }
+        Object status = entry.get("statusCode");
+        return new BatchResult(url, status instanceof Number number ? number.intValue() : 0, entry);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isSuccess() {
+        return statusCode == 200;
+    }
+
+    public Map<String, Object> getBody() {
+        return body;
+    }
+
+    public <T> T as(Class<T> type) {
+        return mapper.convertValue(body, type);
+    }
+}
@@ -0,0 +1,148 @@
+package com.barreragerman.API;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes the test boards ({@link TrelloService#BOARD_NAME_PREFIX}) left behind by aborted runs.
+ * <p>
+ * A board is an orphan when it is older than the TTL; its age comes from the millis in the name
+ * or, if the name was changed, from the timestamp embedded in the board id. Deletions run in
+ * parallel, one page at a time, throttled to stay under Trello's rate limit.
+ * <pre>
+ * sweeper.ttlMinutes=60
+ * sweeper.pageSize=50
+ * sweeper.threads=4
+ * sweeper.requestsPerSecond=8
+ * </pre>
+ */
+public class BoardSweeper {
+
+    private static final Logger logger = LogManager.getLogger(BoardSweeper.class);
+
+    private final Duration ttl;
+    private final int pageSize;
+    private final int threads;
+    private final RequestThrottle throttle;
+
+    public BoardSweeper(Duration ttl, int pageSize, int threads, double requestsPerSecond) {
+        this.ttl = ttl;
+        this.pageSize = pageSize;
+        this.threads = threads;
+        this.throttle = new RequestThrottle(requestsPerSecond);
+    }
+
+    public static BoardSweeper fromConfig() {
+        ConfigSnapshot config = ConfigManager.current();
+        return new BoardSweeper(
+                Duration.ofMinutes(config.getLong("sweeper.ttlMinutes", 60)),
+                config.getInt("sweeper.pageSize", 50),
+                config.getInt("sweeper.threads", 4),
+                config.getDouble("sweeper.requestsPerSecond", 8));
+    }
+
+    /**
+     * Returns how many orphaned boards were deleted.
+     */
+    public int sweep() {
+        Instant cutoff = Instant.now().minus(ttl);
+        List<Board> orphans = TrelloService.getMemberBoards().stream()
+                .filter(board -> createdAt(board).map(created -> created.isBefore(cutoff)).orElse(false))
+                .toList();
+        logger.info("Found {} orphaned test boards older than {} min", orphans.size(), ttl.toMinutes());
+
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int from = 0; from < orphans.size(); from += pageSize) {
+                List<Future<?>> page = new ArrayList<>();
+                for (Board board : orphans.subList(from, Math.min(from + pageSize, orphans.size()))) {
+                    page.add(executor.submit(() -> delete(board, deleted, failed)));
+                }
+                awaitPage(page);
+                logger.info("Sweep progress: {}/{} deleted", deleted.get(), orphans.size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        if (failed.get() > 0) {
+            logger.warn("{} orphaned boards could not be deleted", failed.get());
+        }
+        return deleted.get();
+    }
+
+    private void delete(Board board, AtomicInteger deleted, AtomicInteger failed) {
+        throttle.acquire();
+        try {
+            int status = TrelloService.deleteBoardStatusCode(board.getId());
+            // 404: otro run lo borro primero
+            if (status == 200 || status == 404) {
+                deleted.incrementAndGet();
+            } else {
+                logger.warn("Could not delete board {} ({}), status {}", board.getName(), board.getId(), status);
+                failed.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not delete board {} ({})", board.getName(), board.getId(), e);
+            failed.incrementAndGet();
+        }
+    }
+
+    private static void awaitPage(List<Future<?>> page) {
+        for (Future<?> future : page) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Sweep interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Sweep step failed", e.getCause());
+            }
+        }
+    }
+
+    private static Optional<Instant> createdAt(Board board) {
+        return createdAt(board.getName(), board.getId());
+    }
+
+    /**
+     * Creation time of a test board, empty for boards that were not created by the tests.
+     */
+    public static Optional<Instant> createdAt(String name, String id) {
+        if (name == null || !name.startsWith(TrelloService.BOARD_NAME_PREFIX)) {
+            return Optional.empty();
+        }
+
+        String rest = name.substring(TrelloService.BOARD_NAME_PREFIX.length());
+        int end = 0;
+        while (end < rest.length() && Character.isDigit(rest.charAt(end))) {
+            end++;
+        }
+        // createBoard usa System.currentTimeMillis(): 13 digitos; un sufijo numerico mas corto
+        // (p.ej. "PinAppBoard-7") no es un timestamp y lo haria parecer creado en 1970
+        if (end == 13) {
+            return Optional.of(Instant.ofEpochMilli(Long.parseLong(rest.substring(0, end))));
+        }
+
+        // Los ids de Trello son ObjectIds: los primeros 8 hex son los segundos de creacion
+        if (id != null && id.matches("[0-9a-fA-F]{24}")) {
+            return Optional.of(Instant.ofEpochSecond(Long.parseLong(id.substring(0, 8), 16)));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.barreragerman.API;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Card {
+
+    private String id;
+    private String name;
+    private String desc;
+    private String idList;
+    private String idBoard;
+    private String url;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+    public String getIdList() {
+        return idList;
+    }
+
+    public String getIdBoard() {
+        return idBoard;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+}
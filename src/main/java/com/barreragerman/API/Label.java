@@ -0,0 +1,28 @@
+package com.barreragerman.API;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Label {
+
+    private String id;
+    private String name;
+    private String color;
+    private String idBoard;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getIdBoard() {
+        return idBoard;
+    }
+}
@@ -0,0 +1,26 @@
+package com.barreragerman.API;
+
+import com.barreragerman.perf.RunMetrics;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records the latency of every Trello call per endpoint template, e.g. {@code GET /1/boards/{id}}.
+ * Only added to specs that talk to the configured {@code trello.baseUrl}, never to test stubs.
+ */
+public class LatencyFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        RunMetrics.record(RunMetrics.API + requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath(),
+                (System.nanoTime() - start) / 1_000_000.0);
+        return response;
+    }
+}
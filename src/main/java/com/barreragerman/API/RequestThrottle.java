@@ -0,0 +1,32 @@
+package com.barreragerman.API;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spaces calls evenly to stay under Trello's rate limit: every caller books the next free
+ * slot and parks until it comes, so parallel workers never burst.
+ */
+public class RequestThrottle {
+
+    private final long intervalNanos;
+
+    private final Object lock = new Object();
+    private long nextSlot;
+
+    public RequestThrottle(double requestsPerSecond) {
+        this.intervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+    }
+
+    public void acquire() {
+        long waitNanos;
+        synchronized (lock) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlot);
+            nextSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
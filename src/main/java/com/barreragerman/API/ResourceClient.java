@@ -0,0 +1,81 @@
+package com.barreragerman.API;
+
+import io.restassured.http.Method;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed CRUD client for one Trello resource ({@code /1/boards}, {@code /1/cards}...).
+ * Instances are stateless and shared, get them from {@link TrelloClient}.
+ */
+public class ResourceClient<T> {
+
+    private final String path;
+    private final String label;
+    private final Class<T> type;
+    private final TrelloClient.ExceptionFactory exceptionFactory;
+
+    ResourceClient(String path, String label, Class<T> type, TrelloClient.ExceptionFactory exceptionFactory) {
+        this.path = path;
+        this.label = label;
+        this.type = type;
+        this.exceptionFactory = exceptionFactory;
+    }
+
+    public T create(Map<String, ?> params) {
+        return TrelloClient.sendExpectingOk(label + " creation", exceptionFactory,
+                Method.POST, path, params).as(type);
+    }
+
+    public T get(String id) {
+        return TrelloClient.sendExpectingOk("Getting " + label.toLowerCase(), exceptionFactory,
+                Method.GET, path + "/{id}", Map.of(), id).as(type);
+    }
+
+    public T update(String id, Map<String, ?> params) {
+        return TrelloClient.sendExpectingOk(label + " update", exceptionFactory,
+                Method.PUT, path + "/{id}", params, id).as(type);
+    }
+
+    public void delete(String id) {
+        TrelloClient.sendExpectingOk(label + " deletion", exceptionFactory,
+                Method.DELETE, path + "/{id}", Map.of(), id);
+    }
+
+    /**
+     * Deletes without failing, for cleanup code where the resource may already be gone.
+     */
+    public int deleteStatusCode(String id) {
+        return TrelloClient.send(Method.DELETE, path + "/{id}", Map.of(), id).statusCode();
+    }
+
+    public int getStatusCode(String id) {
+        return TrelloClient.send(Method.GET, path + "/{id}", Map.of(), id).statusCode();
+    }
+
+    public boolean exists(String id) {
+        return getStatusCode(id) == 200;
+    }
+
+    /**
+     * Fetches many resources through {@code /1/batch}: one round trip per
+     * {@value TrelloClient#MAX_BATCH_SIZE} ids. Ids that do not resolve are left out of the result.
+     */
+    public Map<String, T> getAll(List<String> ids) {
+        String batchPath = path.substring("/1".length());
+        List<BatchResult> results = TrelloClient.batch(ids.stream()
+                .map(id -> batchPath + "/" + id)
+                .toList());
+
+        Map<String, T> found = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            BatchResult result = results.get(i);
+            if (result.isSuccess()) {
+                found.put(ids.get(i), result.as(type));
+            }
+        }
+        return found;
+    }
+}
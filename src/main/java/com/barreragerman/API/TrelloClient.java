@@ -0,0 +1,190 @@
+package com.barreragerman.API;
+
+import com.barreragerman.API.cassette.CassetteFilter;
+import com.barreragerman.API.cassette.CassetteMode;
+import com.barreragerman.API.cassette.Cassettes;
+import com.barreragerman.API.webhook.LocalWebhookFilter;
+import com.barreragerman.API.webhook.TrelloWebhooks;
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.BoardException;
+import com.barreragerman.expections.TrelloApiException;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Shared request plumbing for every Trello resource: base URI, credentials, filters
+ * and the status check. Resource specific calls live in {@link ResourceClient}.
+ */
+public final class TrelloClient {
+
+    private static final Logger logger = LogManager.getLogger(TrelloClient.class);
+
+    /** Trello rejects batches with more than 10 urls. */
+    public static final int MAX_BATCH_SIZE = 10;
+
+    private static final ResourceClient<Board> BOARDS =
+            new ResourceClient<>("/1/boards", "Board", Board.class, BoardException::new);
+    private static final ResourceClient<TrelloList> LISTS =
+            new ResourceClient<>("/1/lists", "List", TrelloList.class, TrelloApiException::new);
+    private static final ResourceClient<Card> CARDS =
+            new ResourceClient<>("/1/cards", "Card", Card.class, TrelloApiException::new);
+    private static final ResourceClient<Label> LABELS =
+            new ResourceClient<>("/1/labels", "Label", Label.class, TrelloApiException::new);
+
+    private static volatile Map.Entry<ConfigSnapshot, RequestSpecification> spec;
+
+    private TrelloClient() {
+    }
+
+    public static ResourceClient<Board> boards() {
+        return BOARDS;
+    }
+
+    public static ResourceClient<TrelloList> lists() {
+        return LISTS;
+    }
+
+    public static ResourceClient<Card> cards() {
+        return CARDS;
+    }
+
+    public static ResourceClient<Label> labels() {
+        return LABELS;
+    }
+
+    /**
+     * Base URI and credentials, rebuilt only when ConfigManager publishes a new snapshot.
+     */
+    static RequestSpecification spec() {
+        ConfigSnapshot config = ConfigManager.current();
+        Map.Entry<ConfigSnapshot, RequestSpecification> cached = spec;
+        if (cached == null || cached.getKey() != config) {
+            RequestSpecBuilder builder = new RequestSpecBuilder()
+                    .setBaseUri(config.getTrelloBaseUrl())
+                    .addQueryParam("key", config.getTrelloKey())
+                    .addQueryParam("token", config.getTrelloToken())
+                    .setContentType(ContentType.JSON);
+            // en replay las latencias son del cassette, y contra un stub local no son de Trello
+            if (Cassettes.mode() != CassetteMode.REPLAY && isLiveTrello(config)) {
+                builder.addFilter(new LatencyFilter());
+            }
+            // el stand-in va primero para ver tambien las respuestas que sirve el cassette
+            if (TrelloWebhooks.isLocal()) {
+                builder.addFilter(new LocalWebhookFilter());
+            }
+            if (Cassettes.mode() != CassetteMode.OFF) {
+                builder.addFilter(new CassetteFilter());
+            }
+            cached = Map.entry(config, builder.build());
+            spec = cached;
+            logger.info("Base URI configured: {}", config.getTrelloBaseUrl());
+        }
+        return cached.getValue();
+    }
+
+    private static boolean isLiveTrello(ConfigSnapshot config) {
+        return Objects.equals(config.getTrelloBaseUrl(), ConfigManager.processWide().getTrelloBaseUrl());
+    }
+
+    public static Response send(Method method, String path, Map<String, ?> queryParams, Object... pathParams) {
+        RequestSpecification request = given().spec(spec());
+        if (!queryParams.isEmpty()) {
+            request.queryParams(queryParams);
+        }
+        return request
+                .when()
+                .request(method, path, pathParams)
+                .then()
+                .extract()
+                .response();
+    }
+
+    /**
+     * DELETE without the shared spec, its filters or any logging, against the given configuration.
+     * The watchdog runs it from a JVM shutdown hook, when log4j may already be shut down.
+     */
+    public static int deleteQuietly(ConfigSnapshot config, String path, Object... pathParams) {
+        return given()
+                .baseUri(config.getTrelloBaseUrl())
+                .queryParam("key", config.getTrelloKey())
+                .queryParam("token", config.getTrelloToken())
+                .when()
+                .delete(path, pathParams)
+                .statusCode();
+    }
+
+    /**
+     * Sends the fields as a JSON body instead of the query string, for values too long for a URL.
+     */
+    public static Response sendWithBody(Method method, String path, Map<String, ?> body, Object... pathParams) {
+        return given().spec(spec())
+                .body(body)
+                .when()
+                .request(method, path, pathParams)
+                .then()
+                .extract()
+                .response();
+    }
+
+    /**
+     * Like {@link #send} but fails with the resource exception unless Trello answered 200.
+     */
+    public static Response sendExpectingOk(String action, ExceptionFactory exceptionFactory,
+                                           Method method, String path, Map<String, ?> queryParams,
+                                           Object... pathParams) {
+        Response response = send(method, path, queryParams, pathParams);
+        if (response.statusCode() != 200) {
+            logger.error("{} failed. Body: {}", action, response.asString());
+            throw exceptionFactory.create(
+                    action + " failed. Status: "
+                            + response.statusCode()
+                            + " Body: "
+                            + response.asString()
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Runs up to {@link #MAX_BATCH_SIZE} GET urls (relative to /1, e.g. {@code /boards/abc}) in a
+     * single request. Longer lists are split into several batch calls. Results keep the input order.
+     */
+    public static List<BatchResult> batch(List<String> urls) {
+        List<BatchResult> results = new ArrayList<>(urls.size());
+        for (int from = 0; from < urls.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = urls.subList(from, Math.min(from + MAX_BATCH_SIZE, urls.size()));
+            Response response = sendExpectingOk("Batch request", TrelloApiException::new,
+                    Method.GET, "/1/batch", Map.of("urls", String.join(",", chunk)));
+
+            List<Map<String, Object>> entries = response.jsonPath().getList("$");
+            if (entries == null || entries.size() != chunk.size()) {
+                throw new TrelloApiException("Batch request returned " + (entries == null ? 0 : entries.size())
+                        + " results for " + chunk.size() + " urls, cannot match them: " + chunk);
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                results.add(BatchResult.from(chunk.get(i), entries.get(i)));
+            }
+        }
+        logger.debug("Batch of {} urls resolved in {} requests", urls.size(),
+                (urls.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE);
+        return results;
+    }
+
+    @FunctionalInterface
+    public interface ExceptionFactory {
+        TrelloApiException create(String message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.barreragerman.API;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TrelloList {
+
+    private String id;
+    private String name;
+    private String idBoard;
+    private boolean closed;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIdBoard() {
+        return idBoard;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
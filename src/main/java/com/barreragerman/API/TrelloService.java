@@ -1,138 +1,117 @@
 package com.barreragerman.API;
 
 
+import com.barreragerman.API.cassette.CassetteMode;
+import com.barreragerman.API.cassette.Cassettes;
 import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.ResourceWatchdog;
 import com.barreragerman.expections.BoardException;
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
-import io.restassured.response.Response;
+import io.restassured.http.Method;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import static io.restassured.RestAssured.given;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+/**
+ * Board operations used by the tests. The request plumbing lives in {@link TrelloClient};
+ * lists, cards and labels are available there through their own {@link ResourceClient}.
+ */
 public class TrelloService {
     private static final Logger logger =
             LogManager.getLogger(TrelloService.class);
 
-    static {
-        RestAssured.baseURI = ConfigManager.get("trello.baseUrl");
-        logger.info("Base URI configured: {}", RestAssured.baseURI);
-    }
+    public static final String BOARD_NAME_PREFIX = "PinAppBoard-";
 
     public static Board createBoard() {
 
-        String boardName = "PinAppBoard-" + System.currentTimeMillis();
-        logger.info("Creating board with name: {}", boardName);
-
-        Response response = given()
-                .queryParam("key", ConfigManager.get("trello.key"))
-                .queryParam("token", ConfigManager.get("trello.token"))
-                .queryParam("name", boardName)
-                .contentType(ContentType.JSON)
-                .when()
-                .post("/1/boards")
-                .then()
-                .extract()
-                .response();
-
-        if (response.statusCode() != 200) {
-            logger.error("Board creation failed. Body: {}", response.asString());
-            throw new BoardException(
-                    "Board creation failed. Status: "
-                            + response.statusCode()
-                            + " Body: "
-                            + response.asString()
-            );
-        }
+        String boardName = BOARD_NAME_PREFIX + System.currentTimeMillis();
+        logger.debug("Creating board with name: {}", boardName);
 
-        Board board = response.as(Board.class);
-        logger.info("Board created successfully. ID: {}", board.getId());
-        logger.info("Board created successfully. Name: {}", board.getName());
-        logger.info("Board created successfully. Url: {}", board.getUrl());
+        Board board = TrelloClient.boards().create(Map.of("name", boardName));
+        logger.info("Board created successfully. ID: {}, Name: {}, Url: {}",
+                board.getId(), board.getName(), board.getUrl());
 
+        trackBoard(board.getId(), board.getName());
         return board;
     }
 
-    public static Board getBoardById(String boardId) {
-
-        Response response = given()
-                .queryParam("key", ConfigManager.get("trello.key"))
-                .queryParam("token", ConfigManager.get("trello.token"))
-                .when()
-                .get("/1/boards/{id}", boardId)
-                .then()
-                .extract()
-                .response();
-
-        if (response.statusCode() != 200) {
-            logger.error("Getting board failed. Body: {}", response.asString());
-            throw new BoardException(
-                    "Getting board failed. Status: "
-                            + response.statusCode()
-                            + " Body: "
-                            + response.asString()
-            );
+    /**
+     * Registers the board with the watchdog so it is deleted at suite end if the test doesn't.
+     * Replayed boards never existed in Trello and are not tracked. Boards created without
+     * {@link #createBoard()} (raw requests) must be tracked by the caller.
+     * <p>
+     * The cleanup doesn't log: it may run from the watchdog's shutdown hook.
+     */
+    public static void trackBoard(String boardId, String boardName) {
+        if (Cassettes.mode() == CassetteMode.REPLAY) {
+            return;
         }
-        return response.as(Board.class);
+        ConfigSnapshot config = ConfigManager.current();
+        String description = boardName != null && boardName.length() > 64
+                ? boardName.substring(0, 64) + "... (" + boardName.length() + " chars)"
+                : boardName;
+        ResourceWatchdog.global().register(ResourceWatchdog.Kind.BOARD, boardId, description, () -> {
+            // creado contra otro servidor (stub de un test), ya no se puede borrar desde aca
+            if (!Objects.equals(config.getTrelloBaseUrl(), ConfigManager.processWide().getTrelloBaseUrl())) {
+                throw new BoardException("Board was created against " + config.getTrelloBaseUrl());
+            }
+            int status = TrelloClient.deleteQuietly(config, "/1/boards/{id}", boardId);
+            if (status != 200 && status != 404) {
+                throw new BoardException("Delete failed. Status: " + status);
+            }
+        });
+    }
+
+    public static Board getBoardById(String boardId) {
+        return TrelloClient.boards().get(boardId);
     }
 
+    /**
+     * Fetches several boards in one {@code /1/batch} round trip per 10 ids.
+     * Boards that do not exist are left out of the result.
+     */
+    public static Map<String, Board> getBoardsById(List<String> boardIds) {
+        return TrelloClient.boards().getAll(boardIds);
+    }
 
     public static void deleteBoard(String boardId) {
+        TrelloClient.boards().delete(boardId);
+        ResourceWatchdog.global().release(boardId);
+    }
 
-        given()
-                .queryParam("key", ConfigManager.get("trello.key"))
-                .queryParam("token", ConfigManager.get("trello.token"))
-                .when()
-                .delete("/1/boards/{id}", boardId)
-                .then()
-                .statusCode(200);
+    /**
+     * Deletes without asserting, for cleanup code where the board may already be gone.
+     */
+    public static int deleteBoardStatusCode(String boardId) {
+        int status = TrelloClient.boards().deleteStatusCode(boardId);
+        if (status == 200 || status == 404) {
+            ResourceWatchdog.global().release(boardId);
+        }
+        return status;
     }
 
-    public static boolean boardExists(String boardId) {
+    /**
+     * Open boards of the token owner, with only id and name to keep the payload small.
+     */
+    public static List<Board> getMemberBoards() {
+        return List.of(TrelloClient.sendExpectingOk("Listing boards", BoardException::new,
+                        Method.GET, "/1/members/me/boards", Map.of("fields", "id,name", "filter", "open"))
+                .as(Board[].class));
+    }
 
-        int statusCode =
-                given()
-                        .queryParam("key", ConfigManager.get("trello.key"))
-                        .queryParam("token", ConfigManager.get("trello.token"))
-                        .when()
-                        .get("/1/boards/{id}", boardId)
-                        .then()
-                        .extract()
-                        .statusCode();
-
-        return statusCode == 200;
+    public static boolean boardExists(String boardId) {
+        return TrelloClient.boards().exists(boardId);
     }
 
     public static Board updateBoardName(String boardId, String newName) {
-
-        Response rs =
-                given()
-                        .queryParam("key", ConfigManager.get("trello.key"))
-                        .queryParam("token", ConfigManager.get("trello.token"))
-                        .queryParam("name", newName)
-                        .when()
-                        .put("/1/boards/{id}", boardId)
-                        .then()
-                        .statusCode(200)
-                        .extract()
-                        .response();
-
-        return rs.as(Board.class);
+        return TrelloClient.boards().update(boardId, Map.of("name", newName));
     }
 
     public static int getBoardStatusCode(String boardId) {
-        int statusCode =
-                given()
-                        .queryParam("key", ConfigManager.get("trello.key"))
-                        .queryParam("token", ConfigManager.get("trello.token"))
-                        .when()
-                        .get("/1/boards/{id}", boardId)
-                        .then()
-                        .extract()
-                        .statusCode();
-
-        return statusCode;
+        return TrelloClient.boards().getStatusCode(boardId);
     }
 
 }
@@ -0,0 +1,161 @@
+package com.barreragerman.API.cassette;
+
+import com.barreragerman.expections.CassetteException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recorded Trello exchanges of one test, in a compact binary file:
+ * <pre>
+ * "TCAS" | version:int | recordedAt:long | count:int
+ * count x ( keyLength:int key:utf8 | status:int | typeLength:int type:utf8 | bodyLength:int body )
+ * </pre>
+ * Replay maps the file read-only and keeps the bodies as slices of the mapping, so nothing is
+ * copied until a response is served. Responses for the same request key are served in recording order.
+ * A cassette may be shared with worker threads of its test (see {@link Cassettes#bind}).
+ */
+public class Cassette {
+
+    private static final int MAGIC = 0x54434153; // "TCAS"
+    private static final int VERSION = 1;
+
+    private final String name;
+    private final Path file;
+    private final Instant recordedAt;
+    private final Map<String, Deque<Interaction>> pending = new HashMap<>();
+    private final List<Interaction> recorded = new ArrayList<>();
+
+    private Cassette(String name, Path file, Instant recordedAt) {
+        this.name = name;
+        this.file = file;
+        this.recordedAt = recordedAt;
+    }
+
+    static Cassette blank(String name, Path file) {
+        return new Cassette(name, file, Instant.now());
+    }
+
+    static Cassette load(String name, Path file) {
+        if (!Files.exists(file)) {
+            throw new CassetteException("No cassette recorded for " + name + " at " + file
+                    + ". Run once with trello.cassette.mode=record");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new CassetteException("Unsupported cassette format: " + file);
+            }
+            Cassette cassette = new Cassette(name, file, Instant.ofEpochMilli(buffer.getLong()));
+
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                int status = buffer.getInt();
+                String contentType = readString(buffer);
+                int bodyLength = buffer.getInt();
+                ByteBuffer body = buffer.slice(buffer.position(), bodyLength);
+                buffer.position(buffer.position() + bodyLength);
+
+                cassette.pending.computeIfAbsent(key, ignored -> new ArrayDeque<>())
+                        .add(new Interaction(key, status, contentType, body));
+            }
+            return cassette;
+        } catch (CassetteException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new CassetteException("Corrupted cassette " + file, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public boolean isOlderThan(Duration maxAge) {
+        return recordedAt.plus(maxAge).isBefore(Instant.now());
+    }
+
+    synchronized void record(Interaction interaction) {
+        recorded.add(interaction);
+    }
+
+    synchronized Interaction next(String requestKey) {
+        Deque<Interaction> queue = pending.get(requestKey);
+        if (queue == null || queue.isEmpty()) {
+            throw new CassetteException("Stale cassette " + name + ": no recorded response for [" + requestKey
+                    + "]. Re-record it with trello.cassette.mode=record");
+        }
+        return queue.poll();
+    }
+
+    synchronized int unplayedCount() {
+        return pending.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    void save() {
+        int size = 20;
+        for (Interaction interaction : recorded) {
+            size += 16 + utf8(interaction.getRequestKey()).length
+                    + utf8(interaction.getContentType()).length
+                    + interaction.getBodyLength();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(recordedAt.toEpochMilli()).putInt(recorded.size());
+        for (Interaction interaction : recorded) {
+            writeString(buffer, interaction.getRequestKey());
+            buffer.putInt(interaction.getStatusCode());
+            writeString(buffer, interaction.getContentType());
+            buffer.putInt(interaction.getBodyLength());
+            buffer.put(interaction.bodyBuffer());
+        }
+        buffer.flip();
+
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            throw new CassetteException("Could not write cassette " + file, e);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        byte[] bytes = utf8(value);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.barreragerman.API.cassette;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.CassetteException;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * RestAssured filter that records Trello exchanges into the active {@link Cassette} or answers them from it.
+ * Requests are matched on method, path template ({@code /1/boards/{id}}) and query params,
+ * ignoring the credentials and {@code trello.cassette.ignoreParams}.
+ */
+public class CassetteFilter implements Filter {
+
+    private static final String SCRUBBED = "<scrubbed>";
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Cassette cassette = Cassettes.active();
+        CassetteMode mode = Cassettes.mode();
+        String key = requestKey(requestSpec);
+
+        if (cassette == null) {
+            // En replay no hay red: un request sin cassette es un error, no un fallback silencioso
+            if (mode == CassetteMode.REPLAY) {
+                throw new CassetteException("No cassette inserted on this thread to replay " + key
+                        + "; only tests in the api group get one");
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        if (mode == CassetteMode.REPLAY) {
+            Interaction interaction = cassette.next(key);
+            return new ResponseBuilder()
+                    .setStatusCode(interaction.getStatusCode())
+                    .setStatusLine("HTTP/1.1 " + interaction.getStatusCode())
+                    .setContentType(interaction.getContentType())
+                    .setBody(interaction.getBody())
+                    .build();
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        byte[] body = scrub(response.asByteArray());
+        cassette.record(new Interaction(key, response.statusCode(),
+                response.contentType() != null ? response.contentType() : "", ByteBuffer.wrap(body)));
+        return response;
+    }
+
+    static String requestKey(FilterableRequestSpecification requestSpec) {
+        Set<String> ignored = new HashSet<>(ConfigManager.current().getList("trello.cassette.ignoreParams", "name"));
+        ignored.add("key");
+        ignored.add("token");
+
+        String query = new TreeMap<>(requestSpec.getQueryParams()).entrySet().stream()
+                .filter(param -> !ignored.contains(param.getKey()))
+                .map(param -> param.getKey() + "=" + param.getValue())
+                .collect(Collectors.joining("&"));
+
+        return requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath()
+                + (query.isEmpty() ? "" : "?" + query);
+    }
+
+    // Por si Trello devuelve la key o el token en algun body, nunca llegan al disco
+    private static byte[] scrub(byte[] body) {
+        ConfigSnapshot config = ConfigManager.current();
+        String text = new String(body, StandardCharsets.UTF_8);
+        String scrubbed = text;
+        for (String secret : new String[] { config.getTrelloKey(), config.getTrelloToken() }) {
+            if (secret != null && !secret.isEmpty()) {
+                scrubbed = scrubbed.replace(secret, SCRUBBED);
+            }
+        }
+        return scrubbed.equals(text) ? body : scrubbed.getBytes(StandardCharsets.UTF_8);
+    }
+}
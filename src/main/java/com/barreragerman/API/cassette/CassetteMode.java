@@ -0,0 +1,10 @@
+package com.barreragerman.API.cassette;
+
+public enum CassetteMode {
+    /** Every request goes to trello.baseUrl. */
+    OFF,
+    /** Requests go to the network and the scrubbed exchanges are saved to disk. */
+    RECORD,
+    /** Requests are answered from the cassette, nothing leaves the JVM. */
+    REPLAY
+}
@@ -0,0 +1,104 @@
+package com.barreragerman.API.cassette;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.CassetteException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the cassette of the test running on the current thread.
+ * <pre>
+ * trello.cassette.mode=off|record|replay
+ * trello.cassette.dir=src/test/resources/cassettes
+ * trello.cassette.ignoreParams=name
+ * trello.cassette.maxAgeDays=30
+ * trello.cassette.failOnStale=false
+ * </pre>
+ */
+public class Cassettes {
+
+    private static final Logger logger = LogManager.getLogger(Cassettes.class);
+
+    private static final ThreadLocal<Cassette> active = new ThreadLocal<>();
+
+    private Cassettes() {
+    }
+
+    public static CassetteMode mode() {
+        return CassetteMode.valueOf(
+                ConfigManager.current().getString("trello.cassette.mode", "off").toUpperCase());
+    }
+
+    public static void insert(String name) {
+        CassetteMode mode = mode();
+        if (mode == CassetteMode.OFF) {
+            return;
+        }
+        ConfigSnapshot config = ConfigManager.current();
+        Path file = Path.of(config.getString("trello.cassette.dir", "src/test/resources/cassettes"),
+                name + ".cassette");
+
+        if (mode == CassetteMode.RECORD) {
+            active.set(Cassette.blank(name, file));
+            return;
+        }
+
+        Cassette cassette = Cassette.load(name, file);
+        Duration maxAge = Duration.ofDays(config.getLong("trello.cassette.maxAgeDays", 30));
+        if (cassette.isOlderThan(maxAge)) {
+            String message = "Cassette " + name + " was recorded at " + cassette.getRecordedAt()
+                    + ", older than " + maxAge.toDays() + " days. Re-record it with trello.cassette.mode=record";
+            if (config.getBoolean("trello.cassette.failOnStale", false)) {
+                throw new CassetteException(message);
+            }
+            logger.warn(message);
+        }
+        active.set(cassette);
+    }
+
+    /**
+     * Removes the current cassette; when recording it is written to disk only if {@code save} is true.
+     */
+    public static void eject(boolean save) {
+        Cassette cassette = active.get();
+        if (cassette == null) {
+            return;
+        }
+        active.remove();
+
+        if (mode() == CassetteMode.RECORD) {
+            if (save) {
+                cassette.save();
+                logger.info("Cassette {} recorded", cassette.getName());
+            }
+        } else if (cassette.unplayedCount() > 0) {
+            logger.warn("Cassette {} has {} unplayed interactions, it may be stale",
+                    cassette.getName(), cassette.unplayedCount());
+        }
+    }
+
+    /**
+     * Wraps a task so it runs with the calling thread's cassette, for worker threads started by a test.
+     */
+    public static <T> Supplier<T> bind(Supplier<T> task) {
+        Cassette cassette = active.get();
+        return () -> {
+            Cassette previous = active.get();
+            active.set(cassette);
+            try {
+                return task.get();
+            } finally {
+                active.set(previous);
+            }
+        };
+    }
+
+    static Cassette active() {
+        return active.get();
+    }
+}
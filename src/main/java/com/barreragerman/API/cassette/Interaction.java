@@ -0,0 +1,48 @@
+package com.barreragerman.API.cassette;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One recorded response, stored under the key of the request that produced it.
+ */
+class Interaction {
+
+    private final String requestKey;
+    private final int statusCode;
+    private final String contentType;
+    private final ByteBuffer body;
+
+    Interaction(String requestKey, int statusCode, String contentType, ByteBuffer body) {
+        this.requestKey = requestKey;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.body = body.asReadOnlyBuffer();
+    }
+
+    String getRequestKey() {
+        return requestKey;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    byte[] getBody() {
+        ByteBuffer copy = body.duplicate();
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return bytes;
+    }
+
+    int getBodyLength() {
+        return body.remaining();
+    }
+
+    ByteBuffer bodyBuffer() {
+        return body.duplicate();
+    }
+}
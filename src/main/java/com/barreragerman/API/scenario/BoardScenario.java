@@ -0,0 +1,159 @@
+package com.barreragerman.API.scenario;
+
+import com.barreragerman.API.TrelloService;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * One generated board case. Only the recipe (kind, size, seed) is stored; names and ids are
+ * built from the seed when the test asks for them, so a queue of pending scenarios stays small
+ * even when the payloads are 16k characters long.
+ */
+public final class BoardScenario {
+
+    /** Trello rejects longer board names. */
+    public static final int MAX_NAME_LENGTH = 16384;
+
+    private static final String PREFIX = TrelloService.BOARD_NAME_PREFIX;
+
+    public enum Kind { NAME, ID, RENAME_RACE }
+
+    public enum Alphabet {
+        ASCII(IntStream.rangeClosed('!', '~').toArray()),
+        LATIN(IntStream.rangeClosed(0x00C0, 0x00FF).toArray()),
+        CJK(IntStream.rangeClosed(0x4E00, 0x9FFF).toArray()),
+        EMOJI(IntStream.rangeClosed(0x1F600, 0x1F64F).toArray()),
+        RTL(IntStream.concat(IntStream.rangeClosed(0x05D0, 0x05EA), IntStream.rangeClosed(0x0627, 0x064A)).toArray()),
+        // letra + marca combinante: el largo cuenta code points, Trello puede normalizar a NFC
+        COMBINING(IntStream.concat(IntStream.rangeClosed('a', 'z'), IntStream.rangeClosed(0x0300, 0x036F)).toArray()),
+        WHITESPACE(new int[] { ' ', '\t', 0x00A0, 0x3000 });
+
+        private final int[] codePoints;
+
+        Alphabet(int[] codePoints) {
+            this.codePoints = codePoints;
+        }
+    }
+
+    public enum IdFormat {
+        /** Well formed id of a board that doesn't exist. */
+        HEX_24(404),
+        HEX_SHORT(400),
+        HEX_LONG(400),
+        NON_HEX_24(400);
+
+        private final int expectedStatus;
+
+        IdFormat(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final long seed;
+    private final Alphabet alphabet;
+    private final IdFormat idFormat;
+    private final int size;
+
+    private BoardScenario(Kind kind, int index, long seed, Alphabet alphabet, IdFormat idFormat, int size) {
+        this.kind = kind;
+        this.index = index;
+        this.seed = seed;
+        this.alphabet = alphabet;
+        this.idFormat = idFormat;
+        this.size = size;
+    }
+
+    public static BoardScenario name(int index, long seed, Alphabet alphabet, int length) {
+        return new BoardScenario(Kind.NAME, index, seed, alphabet, null, length);
+    }
+
+    public static BoardScenario id(int index, long seed, IdFormat format, int length) {
+        return new BoardScenario(Kind.ID, index, seed, null, format, length);
+    }
+
+    public static BoardScenario renameRace(int index, long seed, int racers) {
+        return new BoardScenario(Kind.RENAME_RACE, index, seed, null, null, racers);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Board name of a NAME scenario, {@code size} code points long. Names long enough start with
+     * {@link TrelloService#BOARD_NAME_PREFIX} so the sweeper finds them if a run dies mid-test.
+     */
+    public String name() {
+        Random random = new Random(seed);
+        StringBuilder name = new StringBuilder(size * 2);
+        int generated = size;
+        if (alphabet != Alphabet.WHITESPACE && size > PREFIX.length()) {
+            name.append(PREFIX);
+            generated -= PREFIX.length();
+        }
+        for (int i = 0; i < generated; i++) {
+            name.appendCodePoint(alphabet.codePoints[random.nextInt(alphabet.codePoints.length)]);
+        }
+        return name.toString();
+    }
+
+    /**
+     * Board id of an ID scenario.
+     */
+    public String boardId() {
+        Random random = new Random(seed);
+        String chars = idFormat == IdFormat.NON_HEX_24 ? "ghijklmnopqrstuvwxyz" : "0123456789abcdef";
+        StringBuilder id = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            id.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return id.toString();
+    }
+
+    /**
+     * Names the racers of a RENAME_RACE scenario try to set at the same time.
+     */
+    public List<String> raceNames() {
+        List<String> names = new ArrayList<>(size);
+        for (int racer = 0; racer < size; racer++) {
+            names.add(PREFIX + "race-" + index + "-" + racer);
+        }
+        return names;
+    }
+
+    public int expectedStatus() {
+        return switch (kind) {
+            case NAME -> size == 0 || size > MAX_NAME_LENGTH || alphabet == Alphabet.WHITESPACE ? 400 : 200;
+            case ID -> idFormat.expectedStatus;
+            case RENAME_RACE -> 200;
+        };
+    }
+
+    /**
+     * Trello may store a different but canonically equivalent form of the name.
+     */
+    public static boolean sameName(String expected, String actual) {
+        return actual != null && Normalizer.normalize(expected, Normalizer.Form.NFC)
+                .equals(Normalizer.normalize(actual, Normalizer.Form.NFC));
+    }
+
+    @Override
+    public String toString() {
+        String detail = switch (kind) {
+            case NAME -> alphabet + " x" + size;
+            case ID -> idFormat + " x" + size;
+            case RENAME_RACE -> size + " racers";
+        };
+        return "#" + index + " " + kind + " " + detail;
+    }
+}
@@ -0,0 +1,102 @@
+package com.barreragerman.API.scenario;
+
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Lazy generator of {@link BoardScenario}s for a TestNG data provider. Scenario {@code i} is
+ * derived from the run seed and {@code i} alone, so the iterator holds nothing but a counter
+ * and a failing case can be reproduced with the same seed.
+ * <p>
+ * Out of every 10 scenarios 6 are names, 3 are ids and 1 is a concurrent rename race.
+ * <pre>
+ * scenarios.count=20
+ * scenarios.seed=42          (random when missing, logged for reproduction)
+ * scenarios.maxRacers=8
+ * </pre>
+ */
+public final class BoardScenarios {
+
+    private static final Logger logger = LogManager.getLogger(BoardScenarios.class);
+
+    private static final int[] NAME_LENGTHS = { 1, 2, 16, 100, 255, 256, 1024 };
+
+    private BoardScenarios() {
+    }
+
+    public static Iterator<Object[]> fromConfig(ConfigSnapshot config) {
+        int count = config.getInt("scenarios.count", 20);
+        long seed = config.getLong("scenarios.seed", System.nanoTime());
+        logger.info("Generating {} board scenarios with scenarios.seed={}", count, seed);
+        return stream(count, seed, config.getInt("scenarios.maxRacers", 8));
+    }
+
+    public static Iterator<Object[]> stream(int count, long seed, int maxRacers) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[] { scenario(next++, seed, maxRacers) };
+            }
+        };
+    }
+
+    static BoardScenario scenario(int index, long runSeed, int maxRacers) {
+        SplittableRandom random = new SplittableRandom(runSeed + index * 0x9E3779B97F4A7C15L);
+        long seed = random.nextLong();
+        int slot = index % 10;
+
+        if (slot < 6) {
+            return nameScenario(index, seed, random);
+        }
+        if (slot < 9) {
+            return idScenario(index, seed, random);
+        }
+        return BoardScenario.renameRace(index, seed, random.nextInt(2, Math.max(3, maxRacers + 1)));
+    }
+
+    private static BoardScenario nameScenario(int index, long seed, SplittableRandom random) {
+        // los bordes de largo y los nombres invalidos salen en 1 de cada 4 casos de nombre
+        return switch (random.nextInt(12)) {
+            case 0 -> BoardScenario.name(index, seed, BoardScenario.Alphabet.ASCII, BoardScenario.MAX_NAME_LENGTH);
+            case 1 -> BoardScenario.name(index, seed, BoardScenario.Alphabet.ASCII, BoardScenario.MAX_NAME_LENGTH + 1);
+            case 2 -> random.nextBoolean()
+                    ? BoardScenario.name(index, seed, BoardScenario.Alphabet.ASCII, 0)
+                    : BoardScenario.name(index, seed, BoardScenario.Alphabet.WHITESPACE, 1 + random.nextInt(8));
+            default -> {
+                BoardScenario.Alphabet[] alphabets = BoardScenario.Alphabet.values();
+                // WHITESPACE es el ultimo y ya tiene su caso
+                BoardScenario.Alphabet alphabet = alphabets[random.nextInt(alphabets.length - 1)];
+                yield BoardScenario.name(index, seed, alphabet, NAME_LENGTHS[random.nextInt(NAME_LENGTHS.length)]);
+            }
+        };
+    }
+
+    private static BoardScenario idScenario(int index, long seed, SplittableRandom random) {
+        BoardScenario.IdFormat format = BoardScenario.IdFormat.values()[random.nextInt(BoardScenario.IdFormat.values().length)];
+        int length = switch (format) {
+            case HEX_24, NON_HEX_24 -> 24;
+            // 8 caracteres se interpretaria como shortLink
+            case HEX_SHORT -> {
+                int candidate = 1 + random.nextInt(22);
+                yield candidate >= 8 ? candidate + 1 : candidate;
+            }
+            case HEX_LONG -> 25 + random.nextInt(16);
+        };
+        return BoardScenario.id(index, seed, format, length);
+    }
+}
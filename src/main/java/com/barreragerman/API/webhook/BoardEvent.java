@@ -0,0 +1,65 @@
+package com.barreragerman.API.webhook;
+
+import java.time.Instant;
+
+/**
+ * A board change received through a Trello webhook callback.
+ */
+public class BoardEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final String actionType;
+    private final String boardId;
+    private final String boardName;
+    private final Instant receivedAt;
+
+    BoardEvent(Type type, String actionType, String boardId, String boardName) {
+        this.type = type;
+        this.actionType = actionType;
+        this.boardId = boardId;
+        this.boardName = boardName;
+        this.receivedAt = Instant.now();
+    }
+
+    static Type typeOf(String actionType) {
+        return switch (actionType) {
+            case "createBoard" -> Type.CREATED;
+            case "deleteBoard" -> Type.DELETED;
+            default -> Type.UPDATED;
+        };
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Raw Trello action type, e.g. {@code updateBoard} or {@code createCard}.
+     */
+    public String getActionType() {
+        return actionType;
+    }
+
+    public String getBoardId() {
+        return boardId;
+    }
+
+    public String getBoardName() {
+        return boardName;
+    }
+
+    public Instant getReceivedAt() {
+        return receivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + actionType + " board " + boardId + " [" + boardName + "]";
+    }
+}
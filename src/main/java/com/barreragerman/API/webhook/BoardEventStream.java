@@ -0,0 +1,54 @@
+package com.barreragerman.API.webhook;
+
+import com.barreragerman.expections.BoardException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Waitable history of the board events received by a {@link WebhookReceiver}.
+ * Waiting also matches events that arrived before the call, so there is no race
+ * between triggering a change and starting to wait for it.
+ */
+public class BoardEventStream {
+
+    private final List<BoardEvent> events = new ArrayList<>();
+
+    synchronized void publish(BoardEvent event) {
+        events.add(event);
+        notifyAll();
+    }
+
+    public synchronized List<BoardEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public BoardEvent await(String boardId, BoardEvent.Type type, Duration timeout) {
+        return await(event -> event.getType() == type && boardId.equals(event.getBoardId()), timeout,
+                type + " event for board " + boardId);
+    }
+
+    public synchronized BoardEvent await(Predicate<BoardEvent> condition, Duration timeout, String description) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int checked = 0;
+        while (true) {
+            for (; checked < events.size(); checked++) {
+                if (condition.test(events.get(checked))) {
+                    return events.get(checked);
+                }
+            }
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new BoardException("No " + description + " received within " + timeout.toMillis() + " ms");
+            }
+            try {
+                wait(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BoardException("Interrupted while waiting for " + description);
+            }
+        }
+    }
+}
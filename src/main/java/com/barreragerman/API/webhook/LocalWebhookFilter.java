@@ -0,0 +1,100 @@
+package com.barreragerman.API.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local stand-in for Trello's webhook delivery: after every successful board
+ * create/update/delete it posts a Trello-shaped callback to the matching local registrations.
+ */
+public class LocalWebhookFilter implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(LocalWebhookFilter.class);
+
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        String path = requestSpec.getUserDefinedPath();
+        if (response.statusCode() == 200 && (path.equals("/1/boards") || path.equals("/1/boards/{id}"))) {
+            String actionType = actionType(requestSpec.getMethod());
+            if (actionType != null) {
+                deliver(actionType, requestSpec, response);
+            }
+        }
+        return response;
+    }
+
+    private static String actionType(String method) {
+        return switch (method) {
+            case "POST" -> "createBoard";
+            case "PUT" -> "updateBoard";
+            case "DELETE" -> "deleteBoard";
+            default -> null;
+        };
+    }
+
+    private static void deliver(String actionType, FilterableRequestSpecification requestSpec, Response response) {
+        String boardId;
+        String boardName = null;
+        if ("deleteBoard".equals(actionType)) {
+            boardId = boardIdFromPath(requestSpec);
+        } else {
+            boardId = response.jsonPath().getString("id");
+            boardName = response.jsonPath().getString("name");
+        }
+        if (boardId == null) {
+            return;
+        }
+
+        // Como en Trello, la creacion solo la ven los webhooks del miembro (el board aun no existia)
+        List<TrelloWebhooks.Registration> targets =
+                TrelloWebhooks.localRegistrationsFor(boardId, "createBoard".equals(actionType));
+
+        for (TrelloWebhooks.Registration target : targets) {
+            Map<String, Object> board = new HashMap<>();
+            board.put("id", boardId);
+            board.put("name", boardName);
+            Map<String, Object> payload = Map.of(
+                    "action", Map.of("type", actionType, "data", Map.of("board", board)),
+                    "model", Map.of("id", target.idModel()));
+            try {
+                HttpRequest callback = HttpRequest.newBuilder(URI.create(target.callbackUrl()))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(payload)))
+                        .build();
+                httpClient.sendAsync(callback, HttpResponse.BodyHandlers.discarding());
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                logger.warn("Could not deliver local webhook {} to {}", actionType, target.callbackUrl(), e);
+            }
+        }
+    }
+
+    private static String boardIdFromPath(FilterableRequestSpecification requestSpec) {
+        String named = requestSpec.getNamedPathParams().get("id");
+        if (named != null) {
+            return named;
+        }
+        List<String> unnamed = requestSpec.getUnnamedPathParamValues();
+        return unnamed.isEmpty() ? null : unnamed.get(0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.barreragerman.API.webhook;
+
+import com.barreragerman.API.TrelloClient;
+import com.barreragerman.ConfigManager;
+import com.barreragerman.expections.TrelloApiException;
+import io.restassured.http.Method;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers and removes Trello webhooks.
+ * <p>
+ * With {@code trello.webhook.mode=local} nothing is sent to Trello: registrations are kept in
+ * memory and {@link LocalWebhookFilter} plays Trello's part, posting the callbacks itself
+ * for every board change made through {@link TrelloClient}. That keeps offline runs
+ * (stub server, cassette replay) event driven too.
+ */
+public class TrelloWebhooks {
+
+    private static final Logger logger = LogManager.getLogger(TrelloWebhooks.class);
+
+    /** idModel used for member-wide registrations in local mode. */
+    static final String LOCAL_MEMBER = "me";
+
+    private static final Map<String, Registration> localRegistrations = new ConcurrentHashMap<>();
+
+    private TrelloWebhooks() {
+    }
+
+    public static boolean isLocal() {
+        return "local".equalsIgnoreCase(ConfigManager.current().getString("trello.webhook.mode", "trello"));
+    }
+
+    /**
+     * Returns the id of the new webhook.
+     */
+    public static String register(String idModel, String callbackUrl, String description) {
+        if (isLocal()) {
+            String id = "local-" + UUID.randomUUID();
+            localRegistrations.put(id, new Registration(idModel, callbackUrl));
+            return id;
+        }
+
+        String id = TrelloClient.sendExpectingOk("Webhook registration", TrelloApiException::new,
+                        Method.POST, "/1/webhooks",
+                        Map.of("idModel", idModel, "callbackURL", callbackUrl, "description", description))
+                .jsonPath()
+                .getString("id");
+        logger.info("Webhook {} registered for model {}", id, idModel);
+        return id;
+    }
+
+    public static void delete(String webhookId) {
+        if (isLocal()) {
+            localRegistrations.remove(webhookId);
+            return;
+        }
+        int status = TrelloClient.send(Method.DELETE, "/1/webhooks/{id}", Map.of(), webhookId).statusCode();
+        if (status != 200) {
+            logger.warn("Webhook {} could not be deleted, status {}", webhookId, status);
+        }
+    }
+
+    /**
+     * Id of the token owner, the model to watch for board creations.
+     */
+    public static String memberId() {
+        if (isLocal()) {
+            return LOCAL_MEMBER;
+        }
+        return TrelloClient.sendExpectingOk("Getting member", TrelloApiException::new,
+                        Method.GET, "/1/members/me", Map.of("fields", "id"))
+                .jsonPath()
+                .getString("id");
+    }
+
+    static List<Registration> localRegistrationsFor(String boardId, boolean memberOnly) {
+        return localRegistrations.values().stream()
+                .filter(registration -> LOCAL_MEMBER.equals(registration.idModel())
+                        || (!memberOnly && registration.idModel().equals(boardId)))
+                .toList();
+    }
+
+    record Registration(String idModel, String callbackUrl) {
+    }
+}
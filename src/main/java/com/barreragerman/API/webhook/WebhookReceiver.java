@@ -0,0 +1,136 @@
+package com.barreragerman.API.webhook;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.TrelloApiException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded HTTP listener for Trello webhook callbacks. It registers webhooks for the models
+ * it watches and turns every callback into a {@link BoardEvent} on its {@link BoardEventStream}.
+ * Closing it deletes the webhooks and stops the listener.
+ * <pre>
+ * trello.webhook.mode=trello|local
+ * trello.webhook.port=0
+ * trello.webhook.publicUrl=https://my-tunnel.example.com   (required in trello mode)
+ * </pre>
+ * <pre>
+ * try (WebhookReceiver receiver = WebhookReceiver.start()) {
+ *     receiver.watchBoard(board.getId());
+ *     TrelloService.updateBoardName(board.getId(), newName);
+ *     receiver.events().await(board.getId(), BoardEvent.Type.UPDATED, Duration.ofSeconds(10));
+ * }
+ * </pre>
+ */
+public class WebhookReceiver implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(WebhookReceiver.class);
+
+    private static final String CALLBACK_PATH = "/trello/webhook";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final String callbackUrl;
+    private final BoardEventStream events = new BoardEventStream();
+    private final List<String> webhookIds = new ArrayList<>();
+
+    private WebhookReceiver(HttpServer server, String callbackUrl) {
+        this.server = server;
+        this.callbackUrl = callbackUrl;
+    }
+
+    public static WebhookReceiver start() {
+        ConfigSnapshot config = ConfigManager.current();
+        try {
+            HttpServer server = HttpServer.create(
+                    new InetSocketAddress(config.getInt("trello.webhook.port", 0)), 0);
+
+            String publicUrl = config.getString("trello.webhook.publicUrl", null);
+            if (publicUrl == null && !TrelloWebhooks.isLocal()) {
+                server.stop(0);
+                throw new TrelloApiException(
+                        "trello.webhook.publicUrl is required so Trello can reach the receiver, "
+                                + "or use trello.webhook.mode=local");
+            }
+            String base = publicUrl != null
+                    ? publicUrl.replaceAll("/+$", "")
+                    : "http://localhost:" + server.getAddress().getPort();
+
+            WebhookReceiver receiver = new WebhookReceiver(server, base + CALLBACK_PATH);
+            server.createContext(CALLBACK_PATH, receiver::handle);
+            server.start();
+            logger.info("Webhook receiver listening on port {}, callback {}",
+                    server.getAddress().getPort(), receiver.callbackUrl);
+            return receiver;
+        } catch (IOException e) {
+            throw new TrelloApiException("Could not start webhook receiver: " + e.getMessage());
+        }
+    }
+
+    public BoardEventStream events() {
+        return events;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    /**
+     * Receives update and delete events of one board.
+     */
+    public void watchBoard(String boardId) {
+        webhookIds.add(TrelloWebhooks.register(boardId, callbackUrl, "test board " + boardId));
+    }
+
+    /**
+     * Receives events of every board of the token owner, including creations.
+     */
+    public void watchMember() {
+        webhookIds.add(TrelloWebhooks.register(TrelloWebhooks.memberId(), callbackUrl, "test member"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Trello valida el callback con un HEAD antes de crear el webhook
+            if ("POST".equals(exchange.getRequestMethod())) {
+                try (InputStream body = exchange.getRequestBody()) {
+                    publish(mapper.readTree(body));
+                }
+            }
+            exchange.sendResponseHeaders(200, -1);
+        }
+    }
+
+    private void publish(JsonNode payload) {
+        JsonNode action = payload.path("action");
+        JsonNode board = action.path("data").path("board");
+        String actionType = action.path("type").asText("");
+        if (board.isMissingNode() || actionType.isEmpty()) {
+            return;
+        }
+
+        BoardEvent event = new BoardEvent(BoardEvent.typeOf(actionType), actionType,
+                board.path("id").asText(null), board.path("name").asText(null));
+        logger.debug("Webhook event {}", event);
+        events.publish(event);
+    }
+
+    @Override
+    public void close() {
+        webhookIds.forEach(TrelloWebhooks::delete);
+        webhookIds.clear();
+        server.stop(0);
+    }
+}
@@ -1,35 +1,212 @@
 package com.barreragerman;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Resolves the configuration once into an immutable {@link ConfigSnapshot}.
+ * Precedence, lowest to highest:
+ * <ol>
+ *     <li>classpath {@code config.properties}</li>
+ *     <li>classpath {@code config-<profile>.properties} (profile from {@code config.profile})</li>
+ *     <li>external file given by {@code config.file}</li>
+ *     <li>environment variables ({@code trello.key} -> {@code TRELLO_KEY})</li>
+ *     <li>JVM system properties</li>
+ * </ol>
+ * With {@code config.watch=true} the external file is watched and a new snapshot
+ * is published once it stops changing; a file that can't be resolved keeps the previous one.
+ */
 public class ConfigManager {
 
-    private static final Properties properties = new Properties();
+    private static final Logger logger = LogManager.getLogger(ConfigManager.class);
 
-    static {
-        try (InputStream input =
-                     ConfigManager.class.getClassLoader()
-                             .getResourceAsStream("config.properties")) {
+    /** Quiet time after the last change event before the external file is read. */
+    private static final long WATCH_DEBOUNCE_MILLIS = 500;
 
-            properties.load(input);
+    private static final AtomicReference<ConfigSnapshot> current =
+            new AtomicReference<>(load());
+
+    private static final ThreadLocal<ConfigSnapshot> threadSnapshot = new ThreadLocal<>();
 
-        } catch (Exception e) {
-            throw new RuntimeException("Could not load config.properties", e);
+    static {
+        if (current.get().getBoolean("config.watch", false)) {
+            startWatcher();
         }
     }
 
+    private ConfigManager() {
+    }
+
+    /**
+     * The snapshot every worker should read from. Keep the returned instance for the
+     * whole operation to get consistent values even if a reload happens meanwhile.
+     */
+    public static ConfigSnapshot current() {
+        ConfigSnapshot scoped = threadSnapshot.get();
+        return scoped != null ? scoped : current.get();
+    }
+
+    /**
+     * The process wide snapshot, ignoring any {@link #useOnCurrentThread thread scoped} override
+     * (e.g. a test pointing Trello at a local stub).
+     */
+    public static ConfigSnapshot processWide() {
+        return current.get();
+    }
+
+    /**
+     * Makes {@code snapshot} current for the calling thread only, leaving the process wide
+     * configuration (and every other worker) untouched. Undo it with {@link #clearCurrentThread()}.
+     */
+    public static void useOnCurrentThread(ConfigSnapshot snapshot) {
+        threadSnapshot.set(snapshot);
+    }
+
+    public static void clearCurrentThread() {
+        threadSnapshot.remove();
+    }
+
+    public static ConfigSnapshot reload() {
+        ConfigSnapshot snapshot = load();
+        current.set(snapshot);
+        logger.info("Configuration reloaded (profile: {})", snapshot.getProfile());
+        return snapshot;
+    }
+
     public static String get(String key_or_token) {
-        return properties.getProperty(key_or_token);
+        return current().getString(key_or_token);
+    }
+
+    public static String get(String key, String defaultValue) {
+        return current().getString(key, defaultValue);
     }
 
     public static String getBrowser(String browser) {
+        return current().getString(browser);
+    }
+
+    private static ConfigSnapshot load() {
+        return resolve(System.getenv(), System.getProperties());
+    }
+
+    /**
+     * Resolves a snapshot for the given environment and system properties, following the
+     * precedence above. {@link #reload()} uses the real ones.
+     */
+    public static ConfigSnapshot resolve(Map<String, String> environment, Properties systemProperties) {
+        Properties properties = new Properties();
+
+        if (!loadClasspath(properties, "config.properties")) {
+            logger.warn("config.properties not found in classpath, relying on config.file, env and system properties");
+        }
+
+        String profile = lookup("config.profile", properties, environment, systemProperties);
+        if (profile != null && !profile.isBlank()
+                && !loadClasspath(properties, "config-" + profile + ".properties")) {
+            throw new IllegalStateException("Could not load config-" + profile + ".properties");
+        }
+
+        String file = lookup("config.file", properties, environment, systemProperties);
+        Path externalFile = file != null && !file.isBlank() ? Path.of(file) : null;
+        if (externalFile != null) {
+            try (InputStream input = Files.newInputStream(externalFile)) {
+                properties.load(input);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not load " + externalFile, e);
+            }
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            String envValue = environment.get(ConfigSnapshot.toEnvName(key));
+            if (envValue != null) {
+                properties.setProperty(key, envValue);
+            }
+        }
+        systemProperties.forEach((key, value) -> properties.setProperty(key.toString(), value.toString()));
+
+        return new ConfigSnapshot(properties, environment, profile);
+    }
+
+    private static boolean loadClasspath(Properties properties, String resource) {
+        try (InputStream input =
+                     ConfigManager.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                return false;
+            }
+            properties.load(input);
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load " + resource, e);
+        }
+    }
 
-        String systemValue = System.getProperty(browser);
-        if (systemValue != null) {
-            return systemValue;
+    // Claves que se necesitan antes de terminar la resolucion (profile, archivo externo)
+    private static String lookup(String key, Properties properties,
+                                 Map<String, String> environment, Properties systemProperties) {
+        String value = systemProperties.getProperty(key);
+        if (value == null) {
+            value = environment.get(ConfigSnapshot.toEnvName(key));
         }
+        return value != null ? value : properties.getProperty(key);
+    }
+
+    private static void startWatcher() {
+        String file = current().getString("config.file");
+        if (file == null || file.isBlank()) {
+            logger.warn("config.watch is enabled but no config.file was given, nothing to watch");
+            return;
+        }
+        Path absolute = Path.of(file).toAbsolutePath();
+
+        Thread watcher = new Thread(() -> {
+            try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+                absolute.getParent().register(watchService,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+                while (!Thread.currentThread().isInterrupted()) {
+                    boolean changed = touches(watchService.take(), absolute);
+                    // un editor o un deploy escriben en varios pasos: se espera a que el archivo se calme
+                    WatchKey more;
+                    while (changed && (more = watchService.poll(WATCH_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                        touches(more, absolute);
+                    }
+                    if (changed) {
+                        try {
+                            reload();
+                        } catch (RuntimeException e) {
+                            logger.error("Invalid configuration, keeping the previous snapshot", e);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                logger.error("Config watcher stopped", e);
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching {} for configuration changes", absolute);
+    }
 
-        return properties.getProperty(browser);
+    private static boolean touches(WatchKey key, Path file) {
+        boolean changed = key.pollEvents().stream()
+                .map(WatchEvent::context)
+                .anyMatch(name -> file.getFileName().equals(name));
+        key.reset();
+        return changed;
     }
 }
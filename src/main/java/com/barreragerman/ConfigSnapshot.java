@@ -0,0 +1,148 @@
+package com.barreragerman;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the configuration resolved by {@link ConfigManager}.
+ * The frequently used values are parsed once into fields; everything else is
+ * available through the typed getters. A snapshot never changes, so parallel
+ * workers holding the same instance always see consistent values.
+ * <p>
+ * A key that no file or system property defines is still looked up in the environment
+ * captured at load time ({@code sweeper.ttlMinutes} -> {@code SWEEPER_TTL_MINUTES}), so CI
+ * can set any key, not only the ones already present in {@code config.properties}.
+ */
+public final class ConfigSnapshot {
+
+    private final Map<String, String> values;
+    private final Map<String, String> environment;
+    private final String profile;
+    private final Instant loadedAt;
+
+    private final String trelloBaseUrl;
+    private final String trelloKey;
+    private final String trelloToken;
+    private final String trelloUsername;
+    private final String trelloPassword;
+    private final String browser;
+    private final int threadCount;
+
+    ConfigSnapshot(Properties properties, Map<String, String> environment, String profile) {
+        this.values = properties.stringPropertyNames().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        key -> key, properties::getProperty));
+        this.environment = Map.copyOf(environment);
+        this.profile = profile;
+        this.loadedAt = Instant.now();
+
+        this.trelloBaseUrl = getString("trello.baseUrl");
+        this.trelloKey = getString("trello.key");
+        this.trelloToken = getString("trello.token");
+        this.trelloUsername = getString("trello.username");
+        this.trelloPassword = getString("trello.password");
+        this.browser = getString("browser", "chrome");
+        this.threadCount = getInt("run.threads", 1);
+    }
+
+    /**
+     * Copy of this snapshot with some values replaced, e.g. a test pointing at a stub server.
+     */
+    public ConfigSnapshot with(Map<String, String> overrides) {
+        Properties properties = new Properties();
+        properties.putAll(values);
+        properties.putAll(overrides);
+        return new ConfigSnapshot(properties, environment, profile);
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public String getTrelloBaseUrl() {
+        return trelloBaseUrl;
+    }
+
+    public String getTrelloKey() {
+        return trelloKey;
+    }
+
+    public String getTrelloToken() {
+        return trelloToken;
+    }
+
+    public String getTrelloUsername() {
+        return trelloUsername;
+    }
+
+    public String getTrelloPassword() {
+        return trelloPassword;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public String getString(String key) {
+        String value = values.get(key);
+        return value != null ? value : environment.get(toEnvName(key));
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = getString(key);
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    /**
+     * Comma separated value as a list, without blanks.
+     */
+    public List<String> getList(String key) {
+        return getList(key, "");
+    }
+
+    public List<String> getList(String key, String defaultValue) {
+        String value = getString(key, defaultValue);
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    static String toEnvName(String key) {
+        return key.replaceAll("([a-z])([A-Z])", "$1_$2")
+                .replace('.', '_')
+                .toUpperCase();
+    }
+}
@@ -0,0 +1,170 @@
+package com.barreragerman;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of everything a run creates and must give back: driver sessions (with the
+ * browser/driver processes they started) and Trello boards. Owners release a resource when
+ * they clean it up themselves; whatever is still registered at suite end or JVM shutdown is
+ * reported as a leak and cleaned up here.
+ * <p>
+ * The run-wide registry is {@link #global()}; only {@code ResourceWatchdogListener} marks its
+ * baseline and cleans it up. Once {@link #markBaseline()} was called, child processes and
+ * non-daemon threads started since then that survive the cleanup are reported as well;
+ * stray processes are killed, threads only reported.
+ */
+public final class ResourceWatchdog {
+
+    private static final Logger logger = LogManager.getLogger(ResourceWatchdog.class);
+
+    private static final Duration PROCESS_GRACE = Duration.ofSeconds(5);
+
+    private static final ResourceWatchdog GLOBAL = new ResourceWatchdog();
+
+    static {
+        // Sin log4j: su propio shutdown hook puede estar apagando el contexto en paralelo
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            List<String> leaks = GLOBAL.cleanUpQuietly();
+            if (!leaks.isEmpty()) {
+                System.err.println(leaks.size() + " leaked resources at JVM shutdown");
+                leaks.forEach(leak -> System.err.println("Leaked: " + leak));
+            }
+        }, "resource-watchdog"));
+    }
+
+    private final Map<Object, Resource> resources = new ConcurrentHashMap<>();
+    private volatile Set<Long> baselinePids;
+    private volatile Set<Thread> baselineThreads = Set.of();
+
+    public ResourceWatchdog() {
+    }
+
+    /**
+     * The registry shared by the drivers and the Trello client of this JVM.
+     */
+    public static ResourceWatchdog global() {
+        return GLOBAL;
+    }
+
+    public enum Kind { DRIVER, BOARD }
+
+    private record Resource(Kind kind, String description, String owner, Instant createdAt,
+                            Runnable cleanup, Set<Long> pids) {
+        @Override
+        public String toString() {
+            String processes = pids.isEmpty() ? "" : " pids " + pids;
+            return kind + " " + description + processes + " (thread " + owner + ", since " + createdAt + ")";
+        }
+    }
+
+    /**
+     * Processes and threads alive now are not reported as leaks later.
+     */
+    public void markBaseline() {
+        baselinePids = ProcessHandle.current().descendants()
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+        baselineThreads = Set.copyOf(Thread.getAllStackTraces().keySet());
+    }
+
+    public void register(Kind kind, Object key, String description, Runnable cleanup) {
+        resources.put(key, new Resource(kind, description, Thread.currentThread().getName(),
+                Instant.now(), cleanup, Set.of()));
+    }
+
+    /**
+     * Registers a driver session with the pids of the processes it owns (its driver service);
+     * their process trees are killed if the session leaks.
+     */
+    public void registerDriver(Object driver, String description, Runnable quit, Set<Long> pids) {
+        resources.put(driver, new Resource(Kind.DRIVER, description, Thread.currentThread().getName(),
+                Instant.now(), quit, Set.copyOf(pids)));
+    }
+
+    public void release(Object key) {
+        resources.remove(key);
+    }
+
+    public boolean isRegistered(Object key) {
+        return resources.containsKey(key);
+    }
+
+    public int registeredCount() {
+        return resources.size();
+    }
+
+    /**
+     * Cleans up every resource still registered and returns the leaks found.
+     */
+    public List<String> cleanUp(String phase) {
+        List<String> leaks = cleanUpQuietly();
+        if (leaks.isEmpty()) {
+            logger.debug("No leaked resources at {}", phase);
+        } else {
+            logger.warn("{} leaked resources at {}", leaks.size(), phase);
+            leaks.forEach(leak -> logger.warn("Leaked: {}", leak));
+        }
+        return leaks;
+    }
+
+    private synchronized List<String> cleanUpQuietly() {
+        List<String> leaks = new ArrayList<>();
+        for (Object key : List.copyOf(resources.keySet())) {
+            Resource resource = resources.remove(key);
+            if (resource == null) {
+                continue;
+            }
+            String leak = resource.toString();
+            try {
+                resource.cleanup().run();
+            } catch (RuntimeException e) {
+                leak += " - cleanup failed: " + e.getMessage();
+            }
+            leaks.add(leak);
+            resource.pids().forEach(pid -> ProcessHandle.of(pid).ifPresent(ResourceWatchdog::kill));
+        }
+
+        Set<Long> baseline = baselinePids;
+        if (baseline == null) {
+            return leaks;
+        }
+
+        // procesos que ningun driver reclamo, p.ej. un chromedriver cuyo quit nunca llego
+        ProcessHandle.current().children()
+                .filter(process -> !baseline.contains(process.pid()))
+                .forEach(process -> {
+                    leaks.add("PROCESS " + process.pid() + " " + process.info().command().orElse("?"));
+                    kill(process);
+                });
+
+        Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && !thread.isDaemon()
+                        && !baselineThreads.contains(thread) && thread != Thread.currentThread())
+                .forEach(thread -> leaks.add("THREAD " + thread.getName()));
+        return leaks;
+    }
+
+    private static void kill(ProcessHandle process) {
+        List<ProcessHandle> tree = new ArrayList<>(process.descendants().toList());
+        tree.add(process);
+        tree.forEach(ProcessHandle::destroy);
+        for (ProcessHandle handle : tree) {
+            try {
+                handle.onExit().get(PROCESS_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                handle.destroyForcibly();
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.barreragerman.expections;
 
-public class BoardException extends RuntimeException {
+public class BoardException extends TrelloApiException {
     public BoardException(String message) {
         super(message);
     }
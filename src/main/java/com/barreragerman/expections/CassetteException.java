@@ -0,0 +1,11 @@
+package com.barreragerman.expections;
+
+public class CassetteException extends RuntimeException {
+    public CassetteException(String message) {
+        super(message);
+    }
+
+    public CassetteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
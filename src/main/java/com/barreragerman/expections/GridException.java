@@ -0,0 +1,11 @@
+package com.barreragerman.expections;
+
+public class GridException extends RuntimeException {
+    public GridException(String message) {
+        super(message);
+    }
+
+    public GridException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.barreragerman.expections;
+
+public class TrelloApiException extends RuntimeException {
+    public TrelloApiException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.barreragerman.listeners;
+
+import com.barreragerman.API.BoardSweeper;
+import com.barreragerman.API.cassette.CassetteMode;
+import com.barreragerman.API.cassette.Cassettes;
+import com.barreragerman.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Borra los boards de test huérfanos antes y después de cada suite.
+ * Se activa con {@code sweeper.enabled=true}; nunca corre en modo replay (no hay red).
+ */
+public class BoardSweeperListener implements ISuiteListener {
+
+    private static final Logger logger =
+            LogManager.getLogger(BoardSweeperListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        sweep("before", suite);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        sweep("after", suite);
+    }
+
+    private void sweep(String phase, ISuite suite) {
+        if (!ConfigManager.current().getBoolean("sweeper.enabled", false)
+                || Cassettes.mode() == CassetteMode.REPLAY) {
+            return;
+        }
+        try {
+            int deleted = BoardSweeper.fromConfig().sweep();
+            logger.info("Board sweep {} suite [{}]: {} orphaned boards deleted", phase, suite.getName(), deleted);
+        } catch (RuntimeException e) {
+            // la limpieza nunca debe romper la suite
+            logger.error("Board sweep {} suite [{}] failed", phase, suite.getName(), e);
+        }
+    }
+}
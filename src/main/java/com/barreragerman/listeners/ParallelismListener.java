@@ -0,0 +1,45 @@
+package com.barreragerman.listeners;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies the configured parallelism to the suites before they start, so a profile
+ * (e.g. {@code config-ci.properties}) decides how many workers run.
+ * <pre>
+ * run.threads=4          suite and parallel DataProvider threads
+ * run.parallel=classes   methods|classes|tests|instances
+ * </pre>
+ * Without {@code run.threads} the suite runs as the XML defines it.
+ */
+public class ParallelismListener implements IAlterSuiteListener {
+
+    private static final Logger logger =
+            LogManager.getLogger(ParallelismListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigSnapshot config = ConfigManager.current();
+        if (config.getString("run.threads") == null) {
+            return;
+        }
+        int threads = config.getThreadCount();
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(
+                config.getString("run.parallel", "classes"));
+
+        for (XmlSuite suite : suites) {
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads);
+            if (threads > 1) {
+                suite.setParallel(mode);
+            }
+            logger.info("Suite [{}] runs with {} threads ({})", suite.getName(), threads, mode);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.barreragerman.listeners;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.perf.PerfGate;
+import com.barreragerman.perf.RunMetrics;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Gate de regresiones de performance de la suite.
+ * Registra la duración de cada test aprobado; la latencia por endpoint de Trello, el arranque
+ * de drivers y la duración de la suite las agregan {@link RunMetrics} y {@link PerfGate}.
+ * El test final de la suite ({@code PerformanceGateTest}) evalúa la corrida y puede fallar el
+ * build; al terminar la suite se evalúa acá solo si ese test no corrió. Nunca se lanza una
+ * excepción desde el listener, cortaría el onFinish de Allure y del resto de los listeners.
+ */
+public class PerfGateListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        RunMetrics.reset();
+        PerfGate.suiteStarted(suite.getName());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        // los tests fallidos cortan antes y ensuciarian la linea base
+        RunMetrics.record(RunMetrics.TEST + result.getTestClass().getRealClass().getSimpleName()
+                        + "." + result.getMethod().getMethodName(),
+                result.getEndMillis() - result.getStartMillis());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        PerfGate.evaluate(suite.getName(), ConfigManager.current());
+    }
+}
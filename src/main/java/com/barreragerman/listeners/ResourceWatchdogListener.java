@@ -0,0 +1,38 @@
+package com.barreragerman.listeners;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ResourceWatchdog;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.List;
+
+/**
+ * Único dueño del {@link ResourceWatchdog#global() watchdog global}: marca la línea base al
+ * empezar y libera al final de cada suite los drivers, procesos y boards que los tests no limpiaron
+ * y los reporta como leaks. Se desactiva con {@code watchdog.enabled=false}
+ * (el shutdown hook de la JVM sigue activo).
+ */
+public class ResourceWatchdogListener implements ISuiteListener {
+
+    private static final Logger logger =
+            LogManager.getLogger(ResourceWatchdogListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        ResourceWatchdog.global().markBaseline();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ConfigManager.current().getBoolean("watchdog.enabled", true)) {
+            return;
+        }
+        List<String> leaks = ResourceWatchdog.global().cleanUp("end of suite " + suite.getName());
+        if (leaks.isEmpty()) {
+            logger.info("Suite [{}] released all its resources", suite.getName());
+        }
+    }
+}
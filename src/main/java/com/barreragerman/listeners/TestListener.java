@@ -1,22 +1,77 @@
 package com.barreragerman.listeners;
 
 
+import com.barreragerman.API.cassette.Cassettes;
 import com.barreragerman.expections.ScreenShotException;
 import com.barreragerman.utils.ScreenshotUtil;
+import com.barreragerman.web.PageMetricsRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.routing.RoutingAppender;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 /**
  *✔ Se ejecuta automáticamente al fallar un test
  * ✔ Centralizado
  * ✔ No ensucia los tests
+ * ✔ Compara las métricas de performance web contra los budgets configurados
+ * ✔ Monta el cassette de la API (record/replay) de cada test del grupo api
+ * ✔ Pone un testId en el MDC para correlacionar los logs (y rutearlos a un archivo por test)
 */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
 
     private static final Logger logger =
             LogManager.getLogger(TestListener.class);
 
+    public static final String TEST_ID = "testId";
+
+    private static final String API_GROUP = "api";
+
+    /** Routing appender of log4j2.xml that writes one file per testId. */
+    private static final String PER_TEST_APPENDER = "PerTest";
+
+    private static final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ThreadContext.put(TEST_ID, result.getTestClass().getRealClass().getSimpleName()
+                + "." + result.getMethod().getMethodName()
+                + "-" + sequence.incrementAndGet());
+        PageMetricsRecorder.reset();
+        // Solo los tests de API hablan con Trello por RestAssured; los de UI no llevan cassette
+        if (Arrays.asList(result.getMethod().getGroups()).contains(API_GROUP)) {
+            Cassettes.insert(cassetteName(result));
+        }
+    }
+
+    // Corre antes de que TestNG reporte el resultado, asi Allure y el resto de los listeners ven el FAILURE
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || !result.isSuccess()) {
+            return;
+        }
+        List<String> violations = PageMetricsRecorder.checkBudgets();
+        if (!violations.isEmpty() && PageMetricsRecorder.isBudgetEnforced()) {
+            logger.error("Performance budget exceeded in test: {}", result.getMethod().getMethodName());
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Performance budget exceeded: " + violations));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        Cassettes.eject(true);
+        endTestLog();
+    }
+
     @Override
     public void onTestFailure(ITestResult result) {
         String testName = result.getMethod().getMethodName();
@@ -26,5 +81,34 @@ public class TestListener implements ITestListener {
         } catch (ScreenShotException e) {
             logger.error("Screenshot capture failed but test execution continues", e);
         }
+        Cassettes.eject(false);
+        endTestLog();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        Cassettes.eject(false);
+        endTestLog();
+    }
+
+    // Cierra el archivo del test apenas termina: con miles de casos de DataProvider, esperar al
+    // IdlePurgePolicy deja un descriptor y un buffer abiertos por test
+    private static void endTestLog() {
+        String testId = ThreadContext.get(TEST_ID);
+        ThreadContext.remove(TEST_ID);
+        if (testId != null && LogManager.getContext(false) instanceof LoggerContext context
+                && context.getConfiguration().getAppender(PER_TEST_APPENDER) instanceof RoutingAppender routing) {
+            routing.deleteAppender(testId);
+        }
+    }
+
+    // Nombre estable entre corridas: clase.metodo (+ hash de los parametros del DataProvider)
+    private static String cassetteName(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName()
+                + "." + result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        return parameters.length > 0
+                ? name + "-" + Integer.toHexString(Arrays.deepToString(parameters).hashCode())
+                : name;
     }
 }
@@ -0,0 +1,92 @@
+package com.barreragerman.locator;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resolves a single element once and keeps the handle until it is invalidated.
+ * Lists are never cached, their content changes with the page.
+ * <p>
+ * With a lookup timeout the element is polled for until it shows up, like the waits
+ * AppiumFieldDecorator used to add; without one a single lookup is made.
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private static final Duration POLLING = Duration.ofMillis(250);
+
+    private final SearchContext context;
+    private final By by;
+    private final Duration lookupTimeout;
+    private WebElement cached;
+
+    public CachingElementLocator(SearchContext context, By by) {
+        this(context, by, Duration.ZERO);
+    }
+
+    public CachingElementLocator(SearchContext context, By by, Duration lookupTimeout) {
+        this.context = context;
+        this.by = by;
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    @Override
+    public WebElement findElement() {
+        if (cached == null) {
+            cached = lookup();
+        }
+        return cached;
+    }
+
+    private WebElement lookup() {
+        if (lookupTimeout.isZero()) {
+            return context.findElement(by);
+        }
+        try {
+            return new FluentWait<>(context)
+                    .withTimeout(lookupTimeout)
+                    .pollingEvery(POLLING)
+                    .ignoring(NoSuchElementException.class)
+                    .until(searchContext -> searchContext.findElement(by));
+        } catch (TimeoutException e) {
+            throw new NoSuchElementException("No element found for " + by
+                    + " after " + lookupTimeout.toMillis() + " ms", e);
+        }
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return context.findElements(by);
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    public boolean isResolved() {
+        return cached != null;
+    }
+
+    /**
+     * Stores a handle resolved elsewhere, e.g. by a batched lookup.
+     */
+    void prime(WebElement element) {
+        cached = element;
+    }
+
+    public void invalidate() {
+        cached = null;
+    }
+
+    @Override
+    public String toString() {
+        return by.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.barreragerman.locator;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+/**
+ * {@link DefaultFieldDecorator} whose {@code WebElement} fields keep their handle for the
+ * life of the page object and only look it up again when it goes stale.
+ * <pre>
+ * PageFactory.initElements(new CachingFieldDecorator(driver), this);
+ * </pre>
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(SearchContext context) {
+        super(field -> new CachingElementLocator(context, new Annotations(field).buildBy()));
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return StaleRecoveringElementHandler.proxyFor(loader, (CachingElementLocator) locator);
+    }
+}
@@ -0,0 +1,112 @@
+package com.barreragerman.locator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Element handles of one page object, keyed by locator. {@link #get(By)} returns a lazy
+ * proxy that is resolved on first use and reused afterwards, so a click or a type costs
+ * the command itself instead of a new lookup every time.
+ * <p>
+ * {@link #prefetch(By...)} resolves several id/css/xpath/tag locators in a single script call
+ * when the context can run JavaScript; anything it can't resolve is still looked up lazily.
+ */
+public class ElementCache {
+
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+
+    private static final String BATCH_LOOKUP_SCRIPT =
+            "return arguments[0].map(function (l) {"
+                    + "  if (l[0] === 'id') { return document.getElementById(l[1]); }"
+                    + "  if (l[0] === 'css selector') { return document.querySelector(l[1]); }"
+                    + "  if (l[0] === 'xpath') { return document.evaluate(l[1], document, null,"
+                    + "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }"
+                    + "  if (l[0] === 'tag name') { return document.getElementsByTagName(l[1])[0] || null; }"
+                    + "  return null;"
+                    + "});";
+
+    private final SearchContext context;
+    private final Duration lookupTimeout;
+    private final Map<By, CachingElementLocator> locators = new HashMap<>();
+    private final Map<By, WebElement> proxies = new HashMap<>();
+
+    public ElementCache(SearchContext context) {
+        this(context, Duration.ZERO);
+    }
+
+    /**
+     * Lazy lookups poll up to {@code lookupTimeout} for the element, for contexts whose implicit wait is short.
+     */
+    public ElementCache(SearchContext context, Duration lookupTimeout) {
+        this.context = context;
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    public WebElement get(By by) {
+        return proxies.computeIfAbsent(by, key -> StaleRecoveringElementHandler.proxyFor(
+                getClass().getClassLoader(), locator(key)));
+    }
+
+    /**
+     * Resolves the given locators with one round trip. Locators already resolved are skipped.
+     */
+    public void prefetch(By... bys) {
+        if (!(context instanceof JavascriptExecutor executor)) {
+            return;
+        }
+
+        List<CachingElementLocator> pending = new ArrayList<>();
+        List<List<Object>> parameters = new ArrayList<>();
+        for (By by : bys) {
+            CachingElementLocator locator = locator(by);
+            if (!locator.isResolved() && by instanceof By.Remotable remotable) {
+                By.Remotable.Parameters remote = remotable.getRemoteParameters();
+                if (remote.value() instanceof String value && isBatchable(remote.using())) {
+                    pending.add(locator);
+                    parameters.add(List.of(remote.using(), value));
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<?> found = (List<?>) executor.executeScript(BATCH_LOOKUP_SCRIPT, parameters);
+            for (int i = 0; i < pending.size(); i++) {
+                if (found.get(i) instanceof WebElement element) {
+                    pending.get(i).prime(element);
+                }
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Batched lookup failed, elements will be looked up one by one", e);
+        }
+    }
+
+    /**
+     * Drops every cached handle, e.g. after navigating to another page.
+     */
+    public void invalidate() {
+        locators.values().forEach(CachingElementLocator::invalidate);
+    }
+
+    private CachingElementLocator locator(By by) {
+        return locators.computeIfAbsent(by, key -> new CachingElementLocator(context, key, lookupTimeout));
+    }
+
+    private static boolean isBatchable(String using) {
+        return "id".equals(using) || "css selector".equals(using)
+                || "xpath".equals(using) || "tag name".equals(using);
+    }
+}
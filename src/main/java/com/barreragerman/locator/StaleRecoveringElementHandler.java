@@ -0,0 +1,61 @@
+package com.barreragerman.locator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Lazy element proxy: the element is looked up on first use and the handle is reused.
+ * When the handle went stale the element is looked up again and the call retried once.
+ */
+public class StaleRecoveringElementHandler implements InvocationHandler {
+
+    private static final Logger logger = LogManager.getLogger(StaleRecoveringElementHandler.class);
+
+    private final CachingElementLocator locator;
+
+    public StaleRecoveringElementHandler(CachingElementLocator locator) {
+        this.locator = locator;
+    }
+
+    public static WebElement proxyFor(ClassLoader loader, CachingElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class },
+                new StaleRecoveringElementHandler(locator));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("toString".equals(method.getName()) && args == null) {
+            return "Proxy element for: " + locator;
+        }
+        if ("getWrappedElement".equals(method.getName())) {
+            return locator.findElement();
+        }
+
+        try {
+            return method.invoke(locator.findElement(), args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                throw e.getCause();
+            }
+        }
+
+        // Un elemento stale no ejecuto el comando, asi que reintentar es seguro
+        logger.debug("Stale element for {}, looking it up again", locator);
+        locator.invalidate();
+        try {
+            return method.invoke(locator.findElement(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.barreragerman.mobile;
+
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.GridException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands out Appium servers to mobile sessions. Each server offers
+ * {@code appium.sessionsPerServer} slots (one per device it drives); when every slot is
+ * leased the caller waits for one to be released instead of failing.
+ * <pre>
+ * appium.urls=http://127.0.0.1:4723,http://10.0.0.12:4723
+ * appium.sessionsPerServer=1
+ * appium.queueTimeoutSeconds=600
+ * </pre>
+ */
+public class AppiumServerPool {
+
+    private static final Logger logger = LogManager.getLogger(AppiumServerPool.class);
+
+    static final String DEFAULT_URL = "http://127.0.0.1:4723";
+
+    private static AppiumServerPool shared;
+    private static String sharedKey;
+
+    private final BlockingQueue<URL> free = new LinkedBlockingQueue<>();
+    private final int capacity;
+
+    public AppiumServerPool(List<String> urls, int sessionsPerServer) {
+        // Intercalado para repartir las sesiones entre servidores antes de repetir uno
+        for (int slot = 0; slot < sessionsPerServer; slot++) {
+            for (String url : urls) {
+                free.add(toUrl(url));
+            }
+        }
+        this.capacity = free.size();
+    }
+
+    /**
+     * Pool of the configured servers, rebuilt only when the server list changes.
+     */
+    public static synchronized AppiumServerPool fromConfig(ConfigSnapshot config) {
+        List<String> urls = config.getList("appium.urls", DEFAULT_URL);
+        int sessionsPerServer = config.getInt("appium.sessionsPerServer", 1);
+        String key = urls + "x" + sessionsPerServer;
+        if (!key.equals(sharedKey)) {
+            shared = new AppiumServerPool(urls, sessionsPerServer);
+            sharedKey = key;
+            logger.info("Appium server pool: {} with {} session(s) each", urls, sessionsPerServer);
+        }
+        return shared;
+    }
+
+    public URL lease(Duration timeout) {
+        try {
+            URL server = free.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (server == null) {
+                throw new GridException("No Appium server free after " + timeout.toSeconds()
+                        + "s (" + capacity + " slot(s) configured)");
+            }
+            return server;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GridException("Interrupted while waiting for an Appium server", e);
+        }
+    }
+
+    public void release(URL server) {
+        free.add(server);
+    }
+
+    public int available() {
+        return free.size();
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return URI.create(url.trim()).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new GridException("Invalid Appium server url: " + url, e);
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.barreragerman.mobile;
 
 
+import com.barreragerman.locator.ElementCache;
 import io.appium.java_client.AppiumBy;
-import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
@@ -16,17 +18,17 @@ import java.util.List;
 
 public class MobileBoardsPage {
 
+    // Contenedor principal de boards
+    private static final By BOARDS_GRID =
+            AppiumBy.androidUIAutomator("new UiSelector().resourceId(\"BoardsLazyGrid\")");
+
     private final WebDriverWait wait;
 
-    public MobileBoardsPage() {
-        PageFactory.initElements(
-                new AppiumFieldDecorator(
-                        MobileDriverFactory.getDriver(),
-                        Duration.ofSeconds(10)
-                ),
-                this
-        );
+    // El grid se resuelve una vez por pagina y solo se busca de nuevo si queda stale
+    private final ElementCache elements = new ElementCache(
+            MobileDriverFactory.getDriver(), MobileDriverFactory.ELEMENT_LOOKUP_TIMEOUT);
 
+    public MobileBoardsPage() {
         this.wait = new WebDriverWait(
                 MobileDriverFactory.getDriver(),
                 Duration.ofSeconds(20)
@@ -35,10 +37,6 @@ public class MobileBoardsPage {
 
     protected final Logger logger = LogManager.getLogger(this.getClass());
 
-    // Contenedor principal de boards
-    @AndroidFindBy(uiAutomator = "new UiSelector().resourceId(\"BoardsLazyGrid\")")
-    private WebElement boardsGrid;
-
     /**
      * Scrolls until the board text appears in the screen.
      */
@@ -46,13 +44,50 @@ public class MobileBoardsPage {
         logger.info("Scrolling to board: {}", boardName);
         String uiScrollable =
                 "new UiScrollable(new UiSelector().scrollable(true))" +
-                        ".scrollIntoView(new UiSelector().textContains(\""
-                        + boardName + "\"))";
+                        ".scrollIntoView(" + textSelector(boardName) + ")";
 
         MobileDriverFactory.getDriver()
                 .findElement(AppiumBy.androidUIAutomator(uiScrollable));
     }
 
+    private static String textSelector(String boardName) {
+        return "new UiSelector().textContains(\""
+                + boardName.replace("\\", "\\\\").replace("\"", "\\\"") + "\")";
+    }
+
+    /**
+     * Immediate check: looks for the board among the rendered items, without scrolling or waiting.
+     */
+    public boolean isBoardListedNow(String boardName) {
+        AndroidDriver driver = MobileDriverFactory.getDriver();
+        // Sin implicit wait: un "no esta" tiene que volver enseguida, no a los 2s
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return !driver.findElements(AppiumBy.androidUIAutomator(textSelector(boardName))).isEmpty();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(MobileDriverFactory.IMPLICIT_WAIT);
+        }
+    }
+
+    /**
+     * Pull-to-refresh on the boards grid, so the app fetches the board list again.
+     */
+    public void pullToRefresh() {
+        logger.info("Pulling to refresh the boards list");
+        Rectangle grid = elements.get(BOARDS_GRID).getRect();
+        int x = grid.getX() + grid.getWidth() / 2;
+        int fromY = grid.getY() + grid.getHeight() / 5;
+        int toY = grid.getY() + grid.getHeight() * 4 / 5;
+
+        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+        Sequence swipe = new Sequence(finger, 0)
+                .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, fromY))
+                .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                .addAction(finger.createPointerMove(Duration.ofMillis(600), PointerInput.Origin.viewport(), x, toY))
+                .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        MobileDriverFactory.getDriver().perform(List.of(swipe));
+    }
+
     /**
      * Returns true when a board with the given name appears in the visible list.
      */
@@ -63,7 +98,7 @@ public class MobileBoardsPage {
         return wait.until(driver -> {
 
             List<WebElement> visibleBoards =
-                    boardsGrid.findElements(
+                    elements.get(BOARDS_GRID).findElements(
                             By.className("android.widget.TextView")
                     );
 
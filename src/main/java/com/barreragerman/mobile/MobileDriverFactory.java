@@ -1,6 +1,10 @@
 package com.barreragerman.mobile;
 
 
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.ResourceWatchdog;
+import com.barreragerman.perf.RunMetrics;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import org.apache.logging.log4j.LogManager;
@@ -8,19 +12,34 @@ import org.apache.logging.log4j.Logger;
 
 import java.net.URL;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class MobileDriverFactory {
 
     private static final Logger logger = LogManager.getLogger(MobileDriverFactory.class);
 
+    public static final Duration IMPLICIT_WAIT = Duration.ofSeconds(2);
+
+    // Lo que esperaba AppiumFieldDecorator por elemento antes de usar ElementCache
+    public static final Duration ELEMENT_LOOKUP_TIMEOUT = Duration.ofSeconds(10);
+
     private static final ThreadLocal<AndroidDriver> driver = new ThreadLocal<>();
 
+    private static final ThreadLocal<Lease> lease = new ThreadLocal<>();
+
     private MobileDriverFactory() {
     }
 
     public static void initDriver() {
+        ConfigSnapshot config = ConfigManager.current();
+        AppiumServerPool pool = AppiumServerPool.fromConfig(config);
+        URL server = pool.lease(Duration.ofSeconds(config.getLong("appium.queueTimeoutSeconds", 600)));
+        Lease serverLease = new Lease(pool, server);
+        lease.set(serverLease);
+
         try {
-            logger.info("Initializing Android Driver");
+            logger.info("Initializing Android Driver on {}", server);
 
             UiAutomator2Options options = new UiAutomator2Options()
                     .setPlatformName("Android")
@@ -31,21 +50,31 @@ public class MobileDriverFactory {
                     .setAppActivity("com.trello.home.HomeActivity"); // confirm activity
 
             AndroidDriver androidDriver =
-                    new AndroidDriver(
-                            new URL("http://127.0.0.1:4723"),
-                            options
-                    );
+                    RunMetrics.time(RunMetrics.DRIVER + "mobile android",
+                            () -> new AndroidDriver(
+                                    server,
+                                    options
+                            ));
 
             androidDriver.manage()
                     .timeouts()
-                    .implicitlyWait(Duration.ofSeconds(2));
-
+                    .implicitlyWait(IMPLICIT_WAIT);
+
+            // el driver corre en el servidor Appium, aca no hay procesos propios
+            ResourceWatchdog.global().registerDriver(androidDriver, "mobile android on " + server, () -> {
+                try {
+                    androidDriver.quit();
+                } finally {
+                    serverLease.release();
+                }
+            }, Set.of());
             driver.set(androidDriver);
 
             logger.info("Android Driver initialized successfully");
 
         } catch (Exception e) {
             logger.error("Failed to initialize Android Driver", e);
+            releaseServer();
             throw new RuntimeException(e);
         }
     }
@@ -55,10 +84,44 @@ public class MobileDriverFactory {
     }
 
     public static void quitDriver() {
-        if (driver.get() != null) {
-            logger.info("Quitting Android Driver");
-            driver.get().quit();
+        AndroidDriver androidDriver = driver.get();
+        try {
+            if (androidDriver != null) {
+                logger.info("Quitting Android Driver");
+                androidDriver.quit();
+                ResourceWatchdog.global().release(androidDriver);
+            }
+        } finally {
             driver.remove();
+            releaseServer();
+        }
+    }
+
+    private static void releaseServer() {
+        Lease current = lease.get();
+        if (current != null) {
+            current.release();
+            lease.remove();
+        }
+    }
+
+    /**
+     * Server lease that can be returned by the test thread or by the watchdog, only once.
+     */
+    private static final class Lease {
+        private final AppiumServerPool pool;
+        private final URL server;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(AppiumServerPool pool, URL server) {
+            this.pool = pool;
+            this.server = server;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                pool.release(server);
+            }
         }
     }
 }
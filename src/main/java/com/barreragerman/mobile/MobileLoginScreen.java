@@ -1,32 +1,22 @@
 package com.barreragerman.mobile;
 
-import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-
-import java.time.Duration;
+import com.barreragerman.locator.ElementCache;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
 
 public class MobileLoginScreen {
 
-    public MobileLoginScreen() {
-        PageFactory.initElements(
-                new AppiumFieldDecorator(
-                        MobileDriverFactory.getDriver(),
-                        Duration.ofSeconds(10)
-                ),
-                this
-        );
-    }
+    private static final By LOGIN_BTN =
+            AppiumBy.androidUIAutomator("new UiSelector().text(\"Iniciar sesión\")");
 
-    @AndroidFindBy(uiAutomator = "new UiSelector().text(\"Iniciar sesión\")")
-    private WebElement loginBtn;
+    private static final By GOOGLE_LOGIN_BTN =
+            AppiumBy.androidUIAutomator("new UiSelector().resourceId(\"com.trello:id/google_auth\")");
 
-    @AndroidFindBy(uiAutomator = "new UiSelector().resourceId(\"com.trello:id/google_auth\")")
-    private WebElement googleLoginBtn;
+    private final ElementCache elements = new ElementCache(
+            MobileDriverFactory.getDriver(), MobileDriverFactory.ELEMENT_LOOKUP_TIMEOUT);
 
     public void tapLogin() {
-        loginBtn.click();
+        elements.get(LOGIN_BTN).click();
     }
 
 }
@@ -0,0 +1,7 @@
+package com.barreragerman.perf;
+
+/**
+ * Count, mean and standard deviation (millis) of one metric within one run.
+ */
+public record MetricSummary(long count, double mean, double stdDev) {
+}
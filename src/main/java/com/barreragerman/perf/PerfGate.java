@@ -0,0 +1,76 @@
+package com.barreragerman.perf;
+
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Judges a suite run once against its history: records the {@code suite <name>} duration,
+ * compares the run with {@link RegressionGate}, writes the verdict and appends clean runs to
+ * {@link PerfHistory}. The final gate test of the suite evaluates it so a regression can fail
+ * the build as a normal test failure; {@code PerfGateListener} evaluates suites without one.
+ * <pre>
+ * perf.gate.enabled=true
+ * perf.gate.failBuild=false      the gate test fails (instead of skipping) when the run regressed
+ * </pre>
+ */
+public final class PerfGate {
+
+    private static final Logger logger = LogManager.getLogger(PerfGate.class);
+
+    private static final Map<String, Long> suiteStarts = new ConcurrentHashMap<>();
+    private static final Map<String, List<RegressionGate.Regression>> verdicts = new ConcurrentHashMap<>();
+
+    private PerfGate() {
+    }
+
+    public static void suiteStarted(String suiteName) {
+        suiteStarts.put(suiteName, System.nanoTime());
+        verdicts.remove(suiteName);
+    }
+
+    /**
+     * Regressions of the current run of the suite; later calls return the first verdict.
+     */
+    public static synchronized List<RegressionGate.Regression> evaluate(String suiteName, ConfigSnapshot config) {
+        List<RegressionGate.Regression> evaluated = verdicts.get(suiteName);
+        if (evaluated != null) {
+            return evaluated;
+        }
+        if (!config.getBoolean("perf.gate.enabled", true)) {
+            return List.of();
+        }
+
+        Long start = suiteStarts.get(suiteName);
+        if (start != null) {
+            RunMetrics.record(RunMetrics.SUITE + suiteName, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        Map<String, MetricSummary> current = RunMetrics.snapshot();
+        if (current.isEmpty()) {
+            return List.of();
+        }
+
+        PerfHistory history = PerfHistory.forSuite(suiteName, config);
+        List<Map<String, MetricSummary>> baseline =
+                history.lastRuns(config.getInt("perf.gate.baselineRuns", 10));
+        List<RegressionGate.Regression> regressions =
+                RegressionGate.fromConfig(config).compare(current, baseline);
+        history.writeVerdict(regressions, baseline.size());
+        verdicts.put(suiteName, regressions);
+
+        if (regressions.isEmpty()) {
+            // solo las corridas limpias entran a la linea base, una regresion no se vuelve "normal"
+            history.append(current);
+            logger.info("Performance gate [{}]: {} metrics within baseline of {} runs",
+                    suiteName, current.size(), baseline.size());
+        } else {
+            regressions.forEach(regression -> logger.error("Performance regression: {}", regression));
+            logger.error("Performance gate [{}] failed, verdict written to {}", suiteName, history.verdictFile());
+        }
+        return regressions;
+    }
+}
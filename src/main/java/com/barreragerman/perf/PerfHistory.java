@@ -0,0 +1,119 @@
+package com.barreragerman.perf;
+
+import com.barreragerman.ConfigSnapshot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Run summaries of one suite, one JSON line per run in {@code <perf.history.dir>/<suite>.jsonl},
+ * and the gate verdict of the last run in {@code <suite>.verdict.json}.
+ * The directory lives outside {@code target/} so {@code mvn clean} keeps the baseline.
+ */
+public class PerfHistory {
+
+    private static final Logger logger = LogManager.getLogger(PerfHistory.class);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Path file;
+
+    public PerfHistory(Path file) {
+        this.file = file;
+    }
+
+    public static PerfHistory forSuite(String suiteName, ConfigSnapshot config) {
+        Path dir = Path.of(config.getString("perf.history.dir", "perf-history"));
+        return new PerfHistory(dir.resolve(suiteName.replaceAll("[^A-Za-z0-9._-]", "_") + ".jsonl"));
+    }
+
+    /**
+     * The last {@code runs} summaries, oldest first.
+     */
+    public List<Map<String, MetricSummary>> lastRuns(int runs) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            List<Map<String, MetricSummary>> result = new ArrayList<>();
+            for (String line : lines.subList(Math.max(0, lines.size() - runs), lines.size())) {
+                if (!line.isBlank()) {
+                    result.add(fromJson(mapper.readTree(line).path("metrics")));
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            logger.warn("Could not read performance history {}, starting a new baseline", file, e);
+            return List.of();
+        }
+    }
+
+    public Path verdictFile() {
+        return file.resolveSibling(file.getFileName().toString().replaceFirst("\\.jsonl$", "") + ".verdict.json");
+    }
+
+    /**
+     * Overwrites the verdict of the last run: {@code PASSED} or {@code REGRESSED} plus the regressions found.
+     */
+    public void writeVerdict(List<RegressionGate.Regression> regressions, int baselineRuns) {
+        Path verdict = verdictFile();
+        try {
+            Files.createDirectories(verdict.toAbsolutePath().getParent());
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("finishedAt", Instant.now().toString());
+            json.put("status", regressions.isEmpty() ? "PASSED" : "REGRESSED");
+            json.put("baselineRuns", baselineRuns);
+            json.put("regressions", regressions.stream().map(RegressionGate.Regression::toString).toList());
+            Path temp = Files.createTempFile(verdict.toAbsolutePath().getParent(), "verdict", ".tmp");
+            Files.writeString(temp, mapper.writeValueAsString(json), StandardCharsets.UTF_8);
+            Files.move(temp, verdict, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write performance verdict {}", verdict, e);
+        }
+    }
+
+    public synchronized void append(Map<String, MetricSummary> metrics) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            String line = mapper.writeValueAsString(
+                    Map.of("finishedAt", Instant.now().toString(), "metrics", toJson(metrics)));
+            Files.writeString(file, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Could not append to performance history {}", file, e);
+        }
+    }
+
+    // Jackson 2.10 no mapea records, se arma el JSON a mano
+    private static Map<String, Map<String, Number>> toJson(Map<String, MetricSummary> metrics) {
+        Map<String, Map<String, Number>> json = new TreeMap<>();
+        metrics.forEach((name, summary) -> json.put(name, Map.of(
+                "count", summary.count(), "mean", summary.mean(), "stdDev", summary.stdDev())));
+        return json;
+    }
+
+    private static Map<String, MetricSummary> fromJson(JsonNode metrics) {
+        Map<String, MetricSummary> result = new HashMap<>();
+        metrics.fields().forEachRemaining(entry -> result.put(entry.getKey(), new MetricSummary(
+                entry.getValue().path("count").asLong(),
+                entry.getValue().path("mean").asDouble(),
+                entry.getValue().path("stdDev").asDouble())));
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.barreragerman.perf;
+
+import com.barreragerman.ConfigSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the mean of each metric in this run against the means of the same metric in the
+ * previous runs. A metric regresses when it is an outlier of that baseline (z-score) and the
+ * slowdown is also large in relative and absolute terms, so jitter on fast calls is ignored.
+ * <pre>
+ * perf.gate.baselineRuns=10      runs in the rolling baseline
+ * perf.gate.minRuns=5            fewer runs with the metric: no verdict yet
+ * perf.gate.zThreshold=3
+ * perf.gate.minSlowdown=0.2      20% slower than the baseline mean
+ * perf.gate.minDeltaMillis=50
+ * perf.gate.noiseFloor=0.05      minimum standard deviation, as a fraction of the mean
+ * </pre>
+ */
+public class RegressionGate {
+
+    private final int minRuns;
+    private final double zThreshold;
+    private final double minSlowdown;
+    private final double minDeltaMillis;
+    private final double noiseFloor;
+
+    public RegressionGate(int minRuns, double zThreshold, double minSlowdown,
+                          double minDeltaMillis, double noiseFloor) {
+        this.minRuns = minRuns;
+        this.zThreshold = zThreshold;
+        this.minSlowdown = minSlowdown;
+        this.minDeltaMillis = minDeltaMillis;
+        this.noiseFloor = noiseFloor;
+    }
+
+    public static RegressionGate fromConfig(ConfigSnapshot config) {
+        return new RegressionGate(
+                config.getInt("perf.gate.minRuns", 5),
+                config.getDouble("perf.gate.zThreshold", 3),
+                config.getDouble("perf.gate.minSlowdown", 0.2),
+                config.getDouble("perf.gate.minDeltaMillis", 50),
+                config.getDouble("perf.gate.noiseFloor", 0.05));
+    }
+
+    public List<Regression> compare(Map<String, MetricSummary> current,
+                                    List<Map<String, MetricSummary>> baselineRuns) {
+        List<Regression> regressions = new ArrayList<>();
+        current.forEach((metric, summary) -> {
+            double[] means = baselineRuns.stream()
+                    .map(run -> run.get(metric))
+                    .filter(past -> past != null && past.count() > 0)
+                    .mapToDouble(MetricSummary::mean)
+                    .toArray();
+            if (means.length < minRuns) {
+                return;
+            }
+
+            double baselineMean = 0;
+            for (double mean : means) {
+                baselineMean += mean;
+            }
+            baselineMean /= means.length;
+            double variance = 0;
+            for (double mean : means) {
+                variance += (mean - baselineMean) * (mean - baselineMean);
+            }
+            double stdDev = Math.max(Math.sqrt(variance / (means.length - 1)), baselineMean * noiseFloor);
+
+            double delta = summary.mean() - baselineMean;
+            double z = stdDev > 0 ? delta / stdDev : 0;
+            if (z >= zThreshold
+                    && summary.mean() >= baselineMean * (1 + minSlowdown)
+                    && delta >= minDeltaMillis) {
+                regressions.add(new Regression(metric, summary.mean(), baselineMean, z));
+            }
+        });
+        return regressions;
+    }
+
+    public record Regression(String metric, double currentMillis, double baselineMillis, double zScore) {
+        @Override
+        public String toString() {
+            return String.format("%s: %.0f ms vs baseline %.0f ms (+%.0f%%, z=%.1f)", metric,
+                    currentMillis, baselineMillis, (currentMillis / baselineMillis - 1) * 100, zScore);
+        }
+    }
+}
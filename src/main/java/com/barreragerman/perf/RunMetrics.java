@@ -0,0 +1,69 @@
+package com.barreragerman.perf;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Timings of the current run, grouped by metric name:
+ * <pre>
+ * test  TrelloBoardTests.shouldCreateBoard
+ * api   GET /1/boards/{id}
+ * driver web chrome
+ * suite  Automation Suite
+ * </pre>
+ * Only running aggregates are kept, so memory does not grow with the number of samples.
+ */
+public final class RunMetrics {
+
+    public static final String TEST = "test ";
+    public static final String API = "api ";
+    public static final String DRIVER = "driver ";
+    public static final String SUITE = "suite ";
+
+    private static final Map<String, Accumulator> metrics = new ConcurrentHashMap<>();
+
+    private RunMetrics() {
+    }
+
+    public static void record(String metric, double millis) {
+        metrics.computeIfAbsent(metric, key -> new Accumulator()).add(millis);
+    }
+
+    public static <T> T time(String metric, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        record(metric, (System.nanoTime() - start) / 1_000_000.0);
+        return result;
+    }
+
+    public static Map<String, MetricSummary> snapshot() {
+        Map<String, MetricSummary> summaries = new TreeMap<>();
+        metrics.forEach((name, accumulator) -> summaries.put(name, accumulator.summary()));
+        return summaries;
+    }
+
+    public static void reset() {
+        metrics.clear();
+    }
+
+    // Welford: media y varianza en una pasada
+    private static final class Accumulator {
+        private long count;
+        private double mean;
+        private double m2;
+
+        synchronized void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        synchronized MetricSummary summary() {
+            double variance = count > 1 ? m2 / (count - 1) : 0;
+            return new MetricSummary(count, mean, Math.sqrt(variance));
+        }
+    }
+}
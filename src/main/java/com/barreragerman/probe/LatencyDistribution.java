@@ -0,0 +1,72 @@
+package com.barreragerman.probe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Propagation latencies of one platform over all probe iterations.
+ * Iterations where the board never became visible are counted as timeouts, not samples.
+ */
+public class LatencyDistribution {
+
+    private final String platform;
+    private final List<Double> samplesMillis = new ArrayList<>();
+    private int timeouts;
+
+    public LatencyDistribution(String platform) {
+        this.platform = platform;
+    }
+
+    synchronized void addSample(long nanos) {
+        samplesMillis.add(nanos / 1_000_000d);
+    }
+
+    synchronized void addTimeout() {
+        timeouts++;
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public synchronized int getSampleCount() {
+        return samplesMillis.size();
+    }
+
+    public synchronized int getTimeouts() {
+        return timeouts;
+    }
+
+    public synchronized double getMin() {
+        return percentile(0);
+    }
+
+    public synchronized double getMax() {
+        return percentile(100);
+    }
+
+    public synchronized double getMean() {
+        return samplesMillis.stream().mapToDouble(Double::doubleValue).average().orElse(0d);
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds, 0 when there are no samples.
+     */
+    public synchronized double percentile(double percentile) {
+        if (samplesMillis.isEmpty()) {
+            return 0d;
+        }
+        List<Double> sorted = new ArrayList<>(samplesMillis);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100d * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%-6s n=%d timeouts=%d min=%.0f p50=%.0f p90=%.0f p99=%.0f max=%.0f mean=%.0f (ms)",
+                platform, getSampleCount(), timeouts, getMin(), percentile(50), percentile(90),
+                percentile(99), getMax(), getMean());
+    }
+}
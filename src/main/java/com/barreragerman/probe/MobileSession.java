@@ -0,0 +1,35 @@
+package com.barreragerman.probe;
+
+import com.barreragerman.mobile.MobileBoardsPage;
+import com.barreragerman.mobile.MobileDriverFactory;
+
+class MobileSession implements PlatformSession {
+
+    private MobileBoardsPage boardsPage;
+
+    @Override
+    public String name() {
+        return "mobile";
+    }
+
+    @Override
+    public void open() {
+        MobileDriverFactory.initDriver();
+        boardsPage = new MobileBoardsPage();
+    }
+
+    @Override
+    public boolean isBoardVisible(String boardName) {
+        return boardsPage.isBoardListedNow(boardName);
+    }
+
+    @Override
+    public void refresh() {
+        boardsPage.pullToRefresh();
+    }
+
+    @Override
+    public void close() {
+        MobileDriverFactory.quitDriver();
+    }
+}
@@ -0,0 +1,21 @@
+package com.barreragerman.probe;
+
+/**
+ * A logged-in UI session on one platform, driven from a single thread
+ * (the drivers live in ThreadLocals).
+ */
+interface PlatformSession {
+
+    String name();
+
+    void open();
+
+    boolean isBoardVisible(String boardName);
+
+    /**
+     * Forces the UI to fetch the board list again, for clients that do not update live.
+     */
+    void refresh();
+
+    void close();
+}
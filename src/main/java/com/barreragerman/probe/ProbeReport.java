@@ -0,0 +1,39 @@
+package com.barreragerman.probe;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a {@link VisibilityProbe} run: API creation time plus the
+ * API-to-UI propagation latency of every probed platform.
+ */
+public class ProbeReport {
+
+    private final LatencyDistribution apiCreate = new LatencyDistribution("api");
+    private final Map<String, LatencyDistribution> platforms = new LinkedHashMap<>();
+
+    ProbeReport(Iterable<String> platformNames) {
+        platformNames.forEach(name -> platforms.put(name, new LatencyDistribution(name)));
+    }
+
+    public LatencyDistribution getApiCreate() {
+        return apiCreate;
+    }
+
+    public LatencyDistribution getPlatform(String platform) {
+        return platforms.get(platform);
+    }
+
+    public Map<String, LatencyDistribution> getPlatforms() {
+        return Map.copyOf(platforms);
+    }
+
+    @Override
+    public String toString() {
+        return "Board visibility probe\n  " + apiCreate + "\n"
+                + platforms.values().stream()
+                .map(distribution -> "  " + distribution)
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.barreragerman.probe;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a board created through the API takes to show up in each UI.
+ * <p>
+ * Every platform keeps one logged-in session on its own thread for the whole run. Per iteration
+ * a board is created via {@link TrelloService}, all platforms poll for it in parallel and the
+ * elapsed time since the API call returned is recorded with {@link System#nanoTime()}.
+ * The measured value is an upper bound: its resolution is the poll interval plus one check.
+ * <pre>
+ * probe.platforms=web,mobile
+ * probe.iterations=20
+ * probe.timeoutSeconds=60
+ * probe.pollMillis=250
+ * probe.refreshMillis=5000
+ * </pre>
+ */
+public class VisibilityProbe {
+
+    private static final Logger logger = LogManager.getLogger(VisibilityProbe.class);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(60);
+
+    private final int iterations;
+    private final Duration timeout;
+    private final Duration pollInterval;
+    private final Duration refreshInterval;
+    private final List<PlatformSession> sessions;
+
+    VisibilityProbe(int iterations, Duration timeout, Duration pollInterval,
+                    Duration refreshInterval, List<PlatformSession> sessions) {
+        this.iterations = iterations;
+        this.timeout = timeout;
+        this.pollInterval = pollInterval;
+        this.refreshInterval = refreshInterval;
+        this.sessions = List.copyOf(sessions);
+    }
+
+    public static VisibilityProbe fromConfig() {
+        ConfigSnapshot config = ConfigManager.current();
+
+        List<String> platforms = config.getList("probe.platforms");
+        List<PlatformSession> sessions = new ArrayList<>();
+        for (String platform : platforms.isEmpty() ? List.of("web", "mobile") : platforms) {
+            switch (platform.toLowerCase()) {
+                case "web" -> sessions.add(new WebSession());
+                case "mobile" -> sessions.add(new MobileSession());
+                default -> throw new IllegalArgumentException("Unknown probe platform: " + platform);
+            }
+        }
+
+        return new VisibilityProbe(
+                config.getInt("probe.iterations", 20),
+                Duration.ofSeconds(config.getLong("probe.timeoutSeconds", 60)),
+                Duration.ofMillis(config.getLong("probe.pollMillis", 250)),
+                Duration.ofMillis(config.getLong("probe.refreshMillis", 5000)),
+                sessions);
+    }
+
+    public ProbeReport run() {
+        ProbeReport report = new ProbeReport(sessions.stream().map(PlatformSession::name).toList());
+
+        // Un hilo por plataforma: los drivers viven en ThreadLocal
+        Map<PlatformSession, ExecutorService> executors = new LinkedHashMap<>();
+        sessions.forEach(session -> executors.put(session,
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "probe-" + session.name()))));
+
+        try {
+            awaitAll(executors.entrySet().stream()
+                    .map(entry -> entry.getValue().submit(entry.getKey()::open))
+                    .toList());
+
+            for (int iteration = 1; iteration <= iterations; iteration++) {
+                long start = System.nanoTime();
+                Board board = TrelloService.createBoard();
+                long createdAt = System.nanoTime();
+                report.getApiCreate().addSample(createdAt - start);
+
+                try {
+                    awaitAll(executors.entrySet().stream()
+                            .map(entry -> entry.getValue().submit(() -> measure(entry.getKey(), board.getName(),
+                                    createdAt, report.getPlatform(entry.getKey().name()))))
+                            .toList());
+                } finally {
+                    TrelloService.deleteBoard(board.getId());
+                }
+                logger.info("Probe iteration {}/{} done", iteration, iterations);
+            }
+        } finally {
+            executors.forEach((session, executor) -> {
+                executor.submit(session::close);
+                executor.shutdown();
+            });
+            awaitClosed(executors);
+        }
+
+        logger.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Waits for the sessions to close, in parallel and up to {@link #CLOSE_TIMEOUT} in total;
+     * the ones still open are logged and their threads interrupted.
+     */
+    private static void awaitClosed(Map<PlatformSession, ExecutorService> executors) {
+        long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+        executors.forEach((session, executor) -> {
+            try {
+                if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    logger.warn("Probe session {} still open after {} s", session.name(), CLOSE_TIMEOUT.toSeconds());
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while closing probe session {}", session.name());
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    private void measure(PlatformSession session, String boardName, long createdAt,
+                         LatencyDistribution distribution) {
+        long deadline = createdAt + timeout.toNanos();
+        long lastRefresh = System.nanoTime();
+
+        while (System.nanoTime() < deadline) {
+            if (isVisible(session, boardName)) {
+                long latency = System.nanoTime() - createdAt;
+                distribution.addSample(latency);
+                logger.info("Board [{}] visible on {} after {} ms", boardName, session.name(), latency / 1_000_000);
+                return;
+            }
+            if (System.nanoTime() - lastRefresh >= refreshInterval.toNanos()) {
+                session.refresh();
+                lastRefresh = System.nanoTime();
+            }
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        logger.warn("Board [{}] not visible on {} after {} s", boardName, session.name(), timeout.toSeconds());
+        distribution.addTimeout();
+    }
+
+    private boolean isVisible(PlatformSession session, String boardName) {
+        try {
+            return session.isBoardVisible(boardName);
+        } catch (WebDriverException e) {
+            // la lista se esta re-renderizando (refresh, stale elements): se reintenta en el proximo poll
+            return false;
+        }
+    }
+
+    private static void awaitAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Probe interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Probe step failed", e.getCause());
+            }
+        }
+    }
+}
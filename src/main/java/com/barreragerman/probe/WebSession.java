@@ -0,0 +1,36 @@
+package com.barreragerman.probe;
+
+import com.barreragerman.web.BoardPage;
+import com.barreragerman.web.BoardWebFlow;
+import com.barreragerman.web.DriverFactory;
+
+class WebSession implements PlatformSession {
+
+    private BoardPage boardPage;
+
+    @Override
+    public String name() {
+        return "web";
+    }
+
+    @Override
+    public void open() {
+        DriverFactory.initDriver(null);
+        boardPage = new BoardWebFlow().loginAndOpenBoards();
+    }
+
+    @Override
+    public boolean isBoardVisible(String boardName) {
+        return boardPage.isBoardListedNow(boardName);
+    }
+
+    @Override
+    public void refresh() {
+        DriverFactory.getDriver().navigate().refresh();
+    }
+
+    @Override
+    public void close() {
+        DriverFactory.quitDriver();
+    }
+}
@@ -1,5 +1,9 @@
 package com.barreragerman.web;
 
+import com.barreragerman.locator.CachingFieldDecorator;
+import com.barreragerman.locator.ElementCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -8,12 +12,15 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public abstract class BasePage {
 
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected final Logger logger = LogManager.getLogger(this.getClass());
+    protected final ElementCache elements;
 
     protected BasePage() {
         this.driver = DriverFactory.getDriver();
@@ -23,11 +30,22 @@ public abstract class BasePage {
             );
         }
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.elements = new ElementCache(driver);
+        PageFactory.initElements(new CachingFieldDecorator(driver), this);
     }
 
+    /**
+     * Waits on the cached handle of the locator; it is only looked up again when missing or stale.
+     */
     protected WebElement waitForVisibility(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return wait.until(ExpectedConditions.visibilityOf(elements.get(locator)));
+    }
+
+    /**
+     * Resolves several locators in a single script call before interacting with them.
+     */
+    protected void prefetch(By... locators) {
+        elements.prefetch(locators);
     }
 
     protected void click(By locator) {
@@ -40,6 +58,34 @@ public abstract class BasePage {
         element.sendKeys(text);
     }
 
+    /**
+     * Request waterfall of this page since the previous capture, named after the page object.
+     */
+    public RequestWaterfall captureNetworkWaterfall() {
+        return NetworkControl.captureWaterfall(driver, getClass().getSimpleName());
+    }
+
+    /**
+     * Captures the waterfall and returns the network budget violations of this page object.
+     */
+    public List<String> checkNetworkBudget() {
+        return NetworkControl.checkBudget(captureNetworkWaterfall());
+    }
+
+    /**
+     * Records browser performance metrics and the request waterfall for the current test at a key
+     * transition of this page; network budget violations are checked with the other budgets when the test ends.
+     */
+    protected void collectPerformanceMetrics(String checkpoint) {
+        PageMetricsRecorder.collect(driver, getClass().getSimpleName(), checkpoint);
+        try {
+            PageMetricsRecorder.addViolations(checkNetworkBudget());
+        } catch (RuntimeException e) {
+            // igual que las metricas, el waterfall nunca debe romper el flujo funcional
+            logger.warn("Could not capture the request waterfall at checkpoint {}", checkpoint, e);
+        }
+    }
+
     protected boolean isVisible(By locator) {
         try {
             return waitForVisibility(locator).isDisplayed();
@@ -12,8 +12,14 @@ public class BoardPage extends BasePage {
     @FindBy(css = "div.pIQ5_g4p0XJopD ")
     private List<WebElement> listOfBoards;
 
+    private boolean boardListMetricsCollected;
+
     private List<String> getBoardNames() {
         wait.until(ExpectedConditions.visibilityOfAllElements(listOfBoards));
+        if (!boardListMetricsCollected) {
+            collectPerformanceMetrics("board-list");
+            boardListMetricsCollected = true;
+        }
 
         return listOfBoards.stream()
                 .map(WebElement::getText)
@@ -28,6 +34,16 @@ public class BoardPage extends BasePage {
                 .anyMatch(name -> name.equalsIgnoreCase(boardName));
     }
 
+    /**
+     * Immediate check against the boards currently rendered, without waiting.
+     */
+    public boolean isBoardListedNow(String boardName) {
+        return listOfBoards.stream()
+                .map(WebElement::getText)
+                .map(String::trim)
+                .anyMatch(name -> name.equalsIgnoreCase(boardName));
+    }
+
     public boolean waitUntilBoardIsVisible(String boardName) {
         return wait.until(driver -> {
             List<String> boards = getBoardNames();
@@ -1,11 +1,28 @@
 package com.barreragerman.web;
 
 import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.ResourceWatchdog;
+import com.barreragerman.perf.RunMetrics;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 public class DriverFactory {
@@ -23,40 +40,112 @@ public class DriverFactory {
     public static void initDriver(String browser) {
 
         WebDriver webDriver;
+        ConfigSnapshot config = ConfigManager.current();
 
         String selectedBrowser =
                 browser != null
                         ? browser.toLowerCase()
-                        : ConfigManager.get("browser").toLowerCase();
+                        : config.getBrowser().toLowerCase();
+
+        String gridUrl = config.getString("grid.url", null);
+        if (gridUrl != null) {
+            webDriver = remoteDriver(gridUrl, selectedBrowser, config);
+            // la sesion vive en el grid, aca no hay procesos propios
+            ResourceWatchdog.global().registerDriver(webDriver, "grid " + selectedBrowser, webDriver::quit, Set.of());
+        } else {
+            LocalSession local = RunMetrics.time(RunMetrics.DRIVER + "web " + selectedBrowser,
+                    () -> localDriver(selectedBrowser));
+            webDriver = local.driver();
+            ResourceWatchdog.global().registerDriver(webDriver, "web " + selectedBrowser, () -> {
+                try {
+                    local.driver().quit();
+                } finally {
+                    local.service().stop();
+                }
+            }, servicePids(local.service()));
+        }
+
+        webDriver.manage().window().maximize();
+        NetworkControl.enable(webDriver);
+        driver.set(webDriver);
+    }
+
+    private record LocalSession(WebDriver driver, DriverService service) {
+    }
+
+    /**
+     * The service is built here, not by the driver, so the watchdog knows which process it is.
+     */
+    private static LocalSession localDriver(String selectedBrowser) {
 
         switch (selectedBrowser) {
 
-            case "firefox":
+            case "firefox": {
                 WebDriverManager.firefoxdriver().setup();
-                webDriver = new FirefoxDriver();
-                break;
+                GeckoDriverService service = GeckoDriverService.createDefaultService();
+                return new LocalSession(new FirefoxDriver(service), service);
+            }
 
-            case "edge":
+            case "edge": {
                 WebDriverManager.edgedriver().setup();
-                webDriver = new EdgeDriver();
-                break;
+                EdgeDriverService service = EdgeDriverService.createDefaultService();
+                return new LocalSession(new EdgeDriver(service), service);
+            }
 
             case "chrome":
-            default:
+            default: {
                 WebDriverManager.chromedriver().setup();
-                webDriver = new ChromeDriver();
-                break;
+                ChromeDriverService service = ChromeDriverService.createDefaultService();
+                return new LocalSession(new ChromeDriver(service), service);
+            }
         }
+    }
 
-        webDriver.manage().window().maximize();
-        driver.set(webDriver);
+    /**
+     * Pid of the driver service process, found by the port it was started with. Its process
+     * tree (the browser) is killed with it, without guessing from other sessions' children.
+     */
+    private static Set<Long> servicePids(DriverService service) {
+        String portArgument = "--port=" + service.getUrl().getPort();
+        return ProcessHandle.current().children()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                        .orElseGet(() -> process.info().commandLine()
+                                .map(commandLine -> commandLine.contains(portArgument))
+                                .orElse(false)))
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Session on a Selenium Grid, queued by {@link GridScheduler} until the grid has a free slot.
+     * Augmented so DevTools based features keep working when the grid exposes CDP.
+     */
+    private static WebDriver remoteDriver(String gridUrl, String selectedBrowser, ConfigSnapshot config) {
+
+        AbstractDriverOptions<?> options = switch (selectedBrowser) {
+            case "firefox" -> new FirefoxOptions();
+            case "edge" -> new EdgeOptions();
+            default -> new ChromeOptions();
+        };
+
+        WebDriver remote = GridScheduler.forUrl(gridUrl).withSlot(options.getBrowserName(), config,
+                () -> RunMetrics.time(RunMetrics.DRIVER + "grid " + selectedBrowser,
+                        () -> RemoteWebDriver.builder().address(gridUrl).oneOf(options).build()));
+        return new Augmenter().augment(remote);
     }
 
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
-            webDriver.quit();
-            driver.remove();
+            try {
+                NetworkControl.disable();
+                webDriver.quit();
+                // si el quit falla queda registrado y el watchdog lo mata al final
+                ResourceWatchdog.global().release(webDriver);
+            } finally {
+                driver.remove();
+            }
         }
     }
 }
@@ -0,0 +1,153 @@
+package com.barreragerman.web;
+
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.GridException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Capacity-aware admission to a Selenium Grid. Before a session is requested it reads
+ * {@code /status} and waits while the grid has no free slot for the browser, so test classes
+ * queue here instead of failing on Grid's new-session timeout.
+ * <p>
+ * Sessions being created by this JVM are not visible in {@code /status} yet, so they are
+ * counted as taken until the driver is returned.
+ * <pre>
+ * grid.url=http://localhost:4444
+ * grid.queueTimeoutSeconds=600
+ * grid.pollMillis=2000
+ * </pre>
+ */
+public class GridScheduler {
+
+    private static final Logger logger = LogManager.getLogger(GridScheduler.class);
+
+    private static final Map<String, GridScheduler> schedulers = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final URI statusUri;
+    private final Map<String, Integer> pending = new HashMap<>();
+
+    private GridScheduler(String gridUrl) {
+        this.statusUri = URI.create(gridUrl.replaceAll("/+$", "") + "/status");
+    }
+
+    public static GridScheduler forUrl(String gridUrl) {
+        return schedulers.computeIfAbsent(gridUrl, GridScheduler::new);
+    }
+
+    /**
+     * Waits for a free slot for the browser and creates the session with it.
+     */
+    public <T> T withSlot(String browserName, ConfigSnapshot config, Supplier<T> sessionFactory) {
+        long timeoutMillis = config.getLong("grid.queueTimeoutSeconds", 600) * 1000;
+        long pollMillis = config.getLong("grid.pollMillis", 2000);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long queuedAt = System.currentTimeMillis();
+
+        while (!tryReserve(browserName)) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new GridException("No free " + browserName + " slot in " + statusUri
+                        + " after " + timeoutMillis / 1000 + "s");
+            }
+            logger.debug("Grid has no free {} slot, waiting", browserName);
+            sleep(pollMillis);
+        }
+
+        long waited = System.currentTimeMillis() - queuedAt;
+        if (waited > 0) {
+            logger.info("Got a {} slot after waiting {} ms", browserName, waited);
+        }
+        try {
+            return sessionFactory.get();
+        } finally {
+            release(browserName);
+        }
+    }
+
+    private boolean tryReserve(String browserName) {
+        int free = freeSlots(browserName);
+        synchronized (pending) {
+            int taken = pending.getOrDefault(browserName, 0);
+            if (free - taken <= 0) {
+                return false;
+            }
+            pending.put(browserName, taken + 1);
+            return true;
+        }
+    }
+
+    private void release(String browserName) {
+        synchronized (pending) {
+            pending.merge(browserName, -1, Integer::sum);
+        }
+    }
+
+    /**
+     * Free slots for the browser on nodes that are up, capped by each node's maxSessions.
+     */
+    int freeSlots(String browserName) {
+        JsonNode status = readStatus();
+        int free = 0;
+        for (JsonNode node : status.path("value").path("nodes")) {
+            if (!"UP".equalsIgnoreCase(node.path("availability").asText("UP"))) {
+                continue;
+            }
+            int busy = 0;
+            int matching = 0;
+            for (JsonNode slot : node.path("slots")) {
+                boolean inUse = !slot.path("session").isNull() && !slot.path("session").isMissingNode();
+                if (inUse) {
+                    busy++;
+                } else if (browserName.equalsIgnoreCase(slot.path("stereotype").path("browserName").asText())) {
+                    matching++;
+                }
+            }
+            int maxSessions = node.path("maxSessions").asInt(Integer.MAX_VALUE);
+            free += Math.max(0, Math.min(matching, maxSessions - busy));
+        }
+        return free;
+    }
+
+    private JsonNode readStatus() {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    HttpRequest.newBuilder(statusUri).timeout(Duration.ofSeconds(10)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            return mapper.readTree(response.body());
+        } catch (IOException e) {
+            // Grid caido o reiniciando: se trata como sin capacidad y se reintenta
+            logger.warn("Could not read grid status from {}: {}", statusUri, e.getMessage());
+            return mapper.createObjectNode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GridException("Interrupted while reading grid status", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GridException("Interrupted while waiting for a grid slot", e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.barreragerman.web;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Network control for the browser sessions created by {@link DriverFactory}.
+ * <p>
+ * On Chromium browsers it hooks the DevTools Fetch domain to block configured URL patterns
+ * (analytics, trackers...) and, optionally, to serve static assets from a local cache.
+ * The request waterfall and its budget checks use the Resource Timing API, so they work in any browser.
+ * <pre>
+ * network.control.enabled=true
+ * network.block.patterns=*google-analytics.com*,*segment.io*
+ * network.cache.dir=target/asset-cache
+ * network.budget.maxRequests=150
+ * network.budget.BoardPage.maxBytes=5000000
+ * </pre>
+ */
+public class NetworkControl {
+
+    private static final Logger logger = LogManager.getLogger(NetworkControl.class);
+
+    private static final ThreadLocal<NetworkInterceptor> interceptor = new ThreadLocal<>();
+
+    private static final String RESOURCE_TIMING_SCRIPT =
+            "var entries = performance.getEntriesByType('resource').map(function (e) {" +
+                    "  return {name: e.name, initiatorType: e.initiatorType," +
+                    "          startTime: e.startTime, duration: e.duration," +
+                    "          bytes: e.transferSize || e.encodedBodySize || 0};" +
+                    "});" +
+                    "performance.clearResourceTimings();" +
+                    "performance.setResourceTimingBufferSize(1000);" +
+                    "return entries;";
+
+    private NetworkControl() {
+    }
+
+    public static void enable(WebDriver webDriver) {
+        ConfigSnapshot config = ConfigManager.current();
+        if (!config.getBoolean("network.control.enabled", false)) {
+            return;
+        }
+        if (!(webDriver instanceof HasDevTools)) {
+            logger.warn("Browser does not expose DevTools, network blocking and caching are disabled");
+            return;
+        }
+
+        List<Pattern> blocked = parsePatterns(config.getList("network.block.patterns"));
+        String cacheDir = config.getString("network.cache.dir", null);
+        StaticAssetCache cache = cacheDir != null
+                ? new StaticAssetCache(Path.of(cacheDir))
+                : null;
+
+        logger.info("Enabling network control. Blocked patterns: {}, asset cache: {}",
+                blocked.size(), cacheDir);
+        interceptor.set(new NetworkInterceptor(webDriver, filter(blocked, cache)));
+    }
+
+    public static void disable() {
+        NetworkInterceptor active = interceptor.get();
+        if (active != null) {
+            active.close();
+            interceptor.remove();
+        }
+    }
+
+    /**
+     * Reads the requests issued since the last capture and clears the browser buffer,
+     * so consecutive captures attribute each request to a single page.
+     */
+    @SuppressWarnings("unchecked")
+    public static RequestWaterfall captureWaterfall(WebDriver webDriver, String pageName) {
+        List<Map<String, Object>> rawEntries = (List<Map<String, Object>>)
+                ((JavascriptExecutor) webDriver).executeScript(RESOURCE_TIMING_SCRIPT);
+
+        RequestWaterfall waterfall = RequestWaterfall.fromScriptResult(
+                pageName, rawEntries != null ? rawEntries : List.of());
+        logger.info("Request waterfall {}", waterfall);
+        return waterfall;
+    }
+
+    /**
+     * Returns the budget violations of the waterfall; an empty list means the page is within budget.
+     */
+    public static List<String> checkBudget(RequestWaterfall waterfall) {
+        return checkBudget(waterfall, ConfigManager.current());
+    }
+
+    public static List<String> checkBudget(RequestWaterfall waterfall, ConfigSnapshot config) {
+        List<String> violations = new ArrayList<>();
+
+        budget(config, waterfall.getPageName(), "maxRequests").ifPresent(max -> {
+            if (waterfall.getRequestCount() > max) {
+                violations.add(waterfall.getPageName() + " issued " + waterfall.getRequestCount()
+                        + " requests, budget is " + max);
+            }
+        });
+        budget(config, waterfall.getPageName(), "maxBytes").ifPresent(max -> {
+            if (waterfall.getTotalBytes() > max) {
+                violations.add(waterfall.getPageName() + " transferred " + waterfall.getTotalBytes()
+                        + " bytes, budget is " + max);
+            }
+        });
+        budget(config, waterfall.getPageName(), "maxMillis").ifPresent(max -> {
+            if (waterfall.getTotalDurationMillis() > max) {
+                violations.add(waterfall.getPageName() + " took " + Math.round(waterfall.getTotalDurationMillis())
+                        + " ms to load its resources, budget is " + max);
+            }
+        });
+
+        violations.forEach(logger::warn);
+        return violations;
+    }
+
+    private static Optional<Long> budget(ConfigSnapshot config, String pageName, String metric) {
+        long value = config.getLong("network.budget." + pageName + "." + metric,
+                config.getLong("network.budget." + metric, -1));
+        return value >= 0 ? Optional.of(value) : Optional.empty();
+    }
+
+    private static Filter filter(List<Pattern> blocked, StaticAssetCache cache) {
+        return next -> request -> {
+            String uri = request.getUri();
+
+            if (blocked.stream().anyMatch(pattern -> pattern.matcher(uri).matches())) {
+                logger.debug("Blocked request: {}", uri);
+                HttpResponse empty = new HttpResponse();
+                empty.setStatus(204);
+                empty.setContent(Contents.empty());
+                return empty;
+            }
+
+            if (cache == null || !cache.isCacheable(request)) {
+                return next.execute(request);
+            }
+
+            Optional<HttpResponse> cached = cache.lookup(request);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            HttpResponse response = next.execute(request);
+            cache.store(request, response);
+            return response;
+        };
+    }
+
+    /**
+     * Glob patterns: "*" matches any sequence of characters, everything else is literal.
+     */
+    public static List<Pattern> parsePatterns(List<String> patterns) {
+        return patterns.stream()
+                .map(glob -> Pattern.compile(
+                        Arrays.stream(glob.split("\\*", -1))
+                                .map(Pattern::quote)
+                                .reduce((left, right) -> left + ".*" + right)
+                                .orElse("")))
+                .toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.barreragerman.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Browser-side timings captured at a checkpoint of a page object (all values in ms).
+ */
+public class PageMetrics {
+
+    private final String checkpoint;
+    private final String pageName;
+    private final Map<String, Double> values;
+
+    PageMetrics(String checkpoint, String pageName, Map<String, Object> rawValues) {
+        this.checkpoint = checkpoint;
+        this.pageName = pageName;
+        Map<String, Double> parsed = new LinkedHashMap<>();
+        rawValues.forEach((metric, value) ->
+                parsed.put(metric, value instanceof Number number ? number.doubleValue() : 0d));
+        this.values = Map.copyOf(parsed);
+    }
+
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public double get(String metric) {
+        return values.getOrDefault(metric, 0d);
+    }
+
+    public double getTimeToFirstByte() {
+        return get("ttfb");
+    }
+
+    public double getDomContentLoaded() {
+        return get("domContentLoaded");
+    }
+
+    public double getLoadEvent() {
+        return get("load");
+    }
+
+    public double getFirstContentfulPaint() {
+        return get("fcp");
+    }
+
+    public double getLargestContentfulPaint() {
+        return get("lcp");
+    }
+
+    public int getLongTaskCount() {
+        return (int) get("longTasks");
+    }
+
+    public double getLongTaskMillis() {
+        return get("longTaskMillis");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s@%s ttfb=%.0f dcl=%.0f load=%.0f fcp=%.0f lcp=%.0f longTasks=%d (%.0f ms)",
+                checkpoint, pageName, getTimeToFirstByte(), getDomContentLoaded(), getLoadEvent(),
+                getFirstContentfulPaint(), getLargestContentfulPaint(), getLongTaskCount(), getLongTaskMillis());
+    }
+}
@@ -0,0 +1,125 @@
+package com.barreragerman.web;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects Navigation Timing, Paint Timing (FCP/LCP) and long tasks in a single script call
+ * and keeps them per test, so they can be compared against budgets once the test finishes.
+ * <pre>
+ * perf.metrics.enabled=true
+ * perf.budget.lcp=2500
+ * perf.budget.login.longTaskMillis=300
+ * perf.budget.enforce=false
+ * </pre>
+ */
+public class PageMetricsRecorder {
+
+    private static final Logger logger = LogManager.getLogger(PageMetricsRecorder.class);
+
+    private static final ThreadLocal<List<PageMetrics>> recorded =
+            ThreadLocal.withInitial(ArrayList::new);
+
+    private static final ThreadLocal<List<String>> otherViolations =
+            ThreadLocal.withInitial(ArrayList::new);
+
+    private static final String[] BUDGET_METRICS =
+            { "ttfb", "domContentLoaded", "load", "fcp", "lcp", "longTasks", "longTaskMillis" };
+
+    // LCP y long tasks solo se exponen via PerformanceObserver; con buffered:true
+    // el observer recibe las entradas ya ocurridas y respondemos en el mismo script asincrono.
+    private static final String METRICS_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+                    "var nav = performance.getEntriesByType('navigation')[0] || {};" +
+                    "var fcp = performance.getEntriesByName('first-contentful-paint')[0];" +
+                    "var result = {ttfb: nav.responseStart || 0," +
+                    "  domContentLoaded: nav.domContentLoadedEventEnd || 0," +
+                    "  load: nav.loadEventEnd || 0," +
+                    "  fcp: fcp ? fcp.startTime : 0," +
+                    "  lcp: 0, longTasks: 0, longTaskMillis: 0};" +
+                    "var observers = [];" +
+                    "function observe(type, handle) {" +
+                    "  var supported = window.PerformanceObserver && PerformanceObserver.supportedEntryTypes;" +
+                    "  if (!supported || supported.indexOf(type) < 0) { return; }" +
+                    "  var observer = new PerformanceObserver(function (list) { list.getEntries().forEach(handle); });" +
+                    "  observer.observe({type: type, buffered: true});" +
+                    "  observers.push(observer);" +
+                    "}" +
+                    "observe('largest-contentful-paint', function (e) {" +
+                    "  result.lcp = Math.max(result.lcp, e.renderTime || e.startTime); });" +
+                    "observe('longtask', function (e) { result.longTasks++; result.longTaskMillis += e.duration; });" +
+                    "setTimeout(function () {" +
+                    "  observers.forEach(function (o) { o.disconnect(); });" +
+                    "  done(result);" +
+                    "}, 50);";
+
+    private PageMetricsRecorder() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void collect(WebDriver webDriver, String pageName, String checkpoint) {
+        if (!ConfigManager.current().getBoolean("perf.metrics.enabled", true)) {
+            return;
+        }
+        try {
+            Map<String, Object> raw = (Map<String, Object>)
+                    ((JavascriptExecutor) webDriver).executeAsyncScript(METRICS_SCRIPT);
+            PageMetrics metrics = new PageMetrics(checkpoint, pageName, raw);
+            recorded.get().add(metrics);
+            logger.info("Page metrics {}", metrics);
+        } catch (RuntimeException e) {
+            // las metricas nunca deben romper el flujo funcional
+            logger.warn("Could not collect page metrics at checkpoint {}", checkpoint, e);
+        }
+    }
+
+    public static List<PageMetrics> getRecorded() {
+        return List.copyOf(recorded.get());
+    }
+
+    public static void reset() {
+        recorded.remove();
+        otherViolations.remove();
+    }
+
+    /**
+     * Budget violations found elsewhere during the test (e.g. the network budget of a page),
+     * reported and enforced together with the page metric budgets.
+     */
+    public static void addViolations(List<String> violations) {
+        otherViolations.get().addAll(violations);
+    }
+
+    /**
+     * Compares every checkpoint recorded by the current test against the configured budgets.
+     */
+    public static List<String> checkBudgets() {
+        ConfigSnapshot config = ConfigManager.current();
+        List<String> violations = new ArrayList<>(otherViolations.get());
+        for (PageMetrics metrics : recorded.get()) {
+            for (String metric : BUDGET_METRICS) {
+                double limit = config.getDouble("perf.budget." + metrics.getCheckpoint() + "." + metric,
+                        config.getDouble("perf.budget." + metric, Double.NaN));
+                if (!Double.isNaN(limit) && metrics.get(metric) > limit) {
+                    violations.add(String.format("%s at checkpoint %s was %.0f, budget is %.0f",
+                            metric, metrics.getCheckpoint(), metrics.get(metric), limit));
+                }
+            }
+        }
+        // las de red ya se loguearon al capturar el waterfall
+        violations.subList(otherViolations.get().size(), violations.size()).forEach(logger::warn);
+        return violations;
+    }
+
+    public static boolean isBudgetEnforced() {
+        return ConfigManager.current().getBoolean("perf.budget.enforce", false);
+    }
+}
@@ -0,0 +1,116 @@
+package com.barreragerman.web;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the requests a page issued, built from the browser Resource Timing buffer.
+ */
+public class RequestWaterfall {
+
+    private final String pageName;
+    private final List<Entry> entries;
+
+    public RequestWaterfall(String pageName, List<Entry> entries) {
+        this.pageName = pageName;
+        this.entries = List.copyOf(entries);
+    }
+
+    static RequestWaterfall fromScriptResult(String pageName, List<Map<String, Object>> rawEntries) {
+        List<Entry> entries = rawEntries.stream()
+                .map(raw -> new Entry(
+                        String.valueOf(raw.get("name")),
+                        String.valueOf(raw.get("initiatorType")),
+                        toDouble(raw.get("startTime")),
+                        toDouble(raw.get("duration")),
+                        (long) toDouble(raw.get("bytes"))))
+                .toList();
+        return new RequestWaterfall(pageName, entries);
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0d;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public int getRequestCount() {
+        return entries.size();
+    }
+
+    public long getTotalBytes() {
+        return entries.stream().mapToLong(Entry::getBytes).sum();
+    }
+
+    /**
+     * Time from navigation start until the last tracked response finished, in ms.
+     */
+    public double getTotalDurationMillis() {
+        return entries.stream()
+                .mapToDouble(entry -> entry.getStartTime() + entry.getDuration())
+                .max()
+                .orElse(0d);
+    }
+
+    public List<Entry> slowest(int limit) {
+        return entries.stream()
+                .sorted(Comparator.comparingDouble(Entry::getDuration).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d requests, %d bytes, %.0f ms",
+                pageName, getRequestCount(), getTotalBytes(), getTotalDurationMillis());
+    }
+
+    public static class Entry {
+
+        private final String url;
+        private final String initiatorType;
+        private final double startTime;
+        private final double duration;
+        private final long bytes;
+
+        public Entry(String url, String initiatorType, double startTime, double duration, long bytes) {
+            this.url = url;
+            this.initiatorType = initiatorType;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.bytes = bytes;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getInitiatorType() {
+            return initiatorType;
+        }
+
+        public double getStartTime() {
+            return startTime;
+        }
+
+        public double getDuration() {
+            return duration;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f ms %d B %s", duration, bytes, url);
+        }
+    }
+}
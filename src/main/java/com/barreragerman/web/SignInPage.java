@@ -1,49 +1,43 @@
 package com.barreragerman.web;
 
 import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public class SignInPage extends BasePage {
 
-    String realUsername = ConfigManager.get("trello.username");
-    String realPassword = ConfigManager.get("trello.password");
+    private static final By USER_NAME = By.id("username-uid1");
+    private static final By PASSWORD = By.id("password");
+    private static final By CONTINUE = By.id("login-submit");
+    private static final By DISMISS_TWO_STEP_VERIFICATION = By.id("mfa-promote-dismiss");
+
+    private final ConfigSnapshot config = ConfigManager.current();
 
     public SignInPage() {
         super();
     }
 
-    @FindBy(id = "username-uid1")
-    private WebElement userName;
-    @FindBy(id = "password")
-    private WebElement passwordField;
-    @FindBy(id = "login-submit")
-    private WebElement continueBtn;
-    @FindBy(id = "mfa-promote-dismiss")
-    private WebElement dismissTwoStepVerificationBtn;
-
     public void setUserName() {
-        wait.until(ExpectedConditions.visibilityOf(userName))
-                .sendKeys(realUsername);
+        prefetch(USER_NAME, CONTINUE);
+        waitForVisibility(USER_NAME).sendKeys(config.getTrelloUsername());
     }
 
     private void clickContinue_LoginBtn() {
-        wait.until(ExpectedConditions.visibilityOf(continueBtn)).click();
+        click(CONTINUE);
     }
 
     private void setPasswordField() {
-        wait.until(ExpectedConditions.visibilityOf(passwordField))
-                .sendKeys(realPassword);
+        // el password recien se renderiza despues del primer continue
+        prefetch(PASSWORD, DISMISS_TWO_STEP_VERIFICATION);
+        waitForVisibility(PASSWORD).sendKeys(config.getTrelloPassword());
     }
 
     private void clickDismissTwoStepVerificationBtn() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(dismissTwoStepVerificationBtn));
-            dismissTwoStepVerificationBtn.click();
+            click(DISMISS_TWO_STEP_VERIFICATION);
         } catch (TimeoutException e) {
-            System.out.println("Two-step verification popup no apareció, continuando...");
+            logger.info("Two-step verification popup no apareció, continuando...");
         }
     }
 
@@ -53,6 +47,7 @@ public class SignInPage extends BasePage {
         setPasswordField();
         clickContinue_LoginBtn();
         clickDismissTwoStepVerificationBtn();
+        collectPerformanceMetrics("login");
         return new BoardPage();
     }
 }
@@ -0,0 +1,149 @@
+package com.barreragerman.web;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Disk cache for static assets (scripts, styles, fonts, images) shared by every browser session.
+ * Only successful GET responses are stored; everything else always goes to the network.
+ * <p>
+ * Besides the body it keeps the headers the browser checks before using the asset (content type,
+ * CORS and caching), and entries are keyed by the request Origin: cross-origin fonts and
+ * {@code crossorigin} scripts are rejected by the browser without a matching Access-Control-Allow-Origin.
+ */
+class StaticAssetCache {
+
+    private static final Logger logger = LogManager.getLogger(StaticAssetCache.class);
+
+    private static final Pattern STATIC_ASSET =
+            Pattern.compile(".*\\.(js|css|woff2?|ttf|png|jpe?g|gif|svg|webp|ico)(\\?.*)?$");
+
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            "Content-Type",
+            "Access-Control-Allow-Origin",
+            "Access-Control-Allow-Credentials",
+            "Access-Control-Expose-Headers",
+            "Timing-Allow-Origin",
+            "Cross-Origin-Resource-Policy",
+            "Vary",
+            "Cache-Control");
+
+    private final Path folder;
+
+    StaticAssetCache(Path folder) {
+        this.folder = folder;
+    }
+
+    boolean isCacheable(HttpRequest request) {
+        return request.getMethod() == HttpMethod.GET
+                && STATIC_ASSET.matcher(request.getUri()).matches();
+    }
+
+    Optional<HttpResponse> lookup(HttpRequest request) {
+        String key = key(request);
+        Path body = bodyFile(key);
+        if (!Files.exists(body)) {
+            return Optional.empty();
+        }
+        try {
+            HttpResponse response = new HttpResponse();
+            response.setStatus(200);
+            for (String line : Files.readAllLines(headersFile(key), StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(':');
+                if (separator > 0) {
+                    response.addHeader(line.substring(0, separator), line.substring(separator + 1).trim());
+                }
+            }
+            response.setContent(Contents.bytes(Files.readAllBytes(body)));
+            return Optional.of(response);
+        } catch (IOException e) {
+            logger.warn("Cached asset unreadable, falling back to network: {}", request.getUri(), e);
+            return Optional.empty();
+        }
+    }
+
+    void store(HttpRequest request, HttpResponse response) {
+        if (response.getStatus() != 200) {
+            return;
+        }
+        StringBuilder headers = new StringBuilder();
+        for (String name : REPLAYED_HEADERS) {
+            response.getHeaders(name).forEach(value -> headers.append(name).append(": ").append(value).append('\n'));
+        }
+        if (response.getHeader("Content-Type") == null) {
+            headers.append("Content-Type: application/octet-stream\n");
+        }
+        byte[] bytes = Contents.bytes(response.getContent());
+        // el body ya fue consumido, se lo devolvemos al navegador
+        response.setContent(Contents.bytes(bytes));
+        String key = key(request);
+        try {
+            Files.createDirectories(folder);
+            // el body va ultimo: lookup solo sirve assets cuyo body existe, y para entonces los headers ya estan
+            writeAtomically(headersFile(key), headers.toString().getBytes(StandardCharsets.UTF_8));
+            writeAtomically(bodyFile(key), bytes);
+        } catch (IOException e) {
+            logger.warn("Could not cache asset: {}", request.getUri(), e);
+        }
+    }
+
+    /**
+     * Other sessions read the cache concurrently, so a file only appears once it is complete.
+     */
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(folder, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * The same URL requested from another origin (or without CORS) gets its own entry,
+     * so a replayed Access-Control-Allow-Origin always matches the page asking for it.
+     */
+    private static String key(HttpRequest request) {
+        String origin = request.getHeader("Origin");
+        return hash(origin != null ? request.getUri() + "\n" + origin : request.getUri());
+    }
+
+    private Path bodyFile(String key) {
+        return folder.resolve(key + ".body");
+    }
+
+    private Path headersFile(String key) {
+        return folder.resolve(key + ".headers");
+    }
+
+    private static String hash(String uri) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(uri.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
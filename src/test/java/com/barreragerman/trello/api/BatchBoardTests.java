@@ -0,0 +1,101 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.expections.TrelloApiException;
+import com.barreragerman.perf.RunMetrics;
+import com.barreragerman.trello.support.FakeTrello;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class BatchBoardTests {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private FakeTrello fakeTrello;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFakeTrello() {
+        // Responde como /1/batch: {"200": board} para ids "ok-*", error con statusCode para el resto
+        fakeTrello = FakeTrello.start().route("/1/batch", exchange -> {
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            String urls = query.replaceAll(".*urls=([^&]*).*", "$1");
+            List<String> ids = List.of(urls.split(",")).stream()
+                    .map(url -> url.substring("/boards/".length()))
+                    .toList();
+            batchSizes.add(ids.size());
+
+            // "drop-*" simula una respuesta truncada: Trello devuelve menos resultados que urls
+            String body = ids.stream()
+                    .filter(id -> !id.startsWith("drop-"))
+                    .map(id -> id.startsWith("ok-")
+                            ? "{\"200\":{\"id\":\"" + id + "\",\"name\":\"Board " + id + "\"}}"
+                            : "{\"name\":\"NotFoundError\",\"message\":\"not found\",\"statusCode\":404}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            FakeTrello.respondJson(exchange, 200, body);
+        });
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void useFakeTrello() {
+        batchSizes.clear();
+        fakeTrello.use();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseConfig() {
+        FakeTrello.release();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeTrello() {
+        fakeTrello.stop();
+    }
+
+    @Test(description = "Fetch many boards through /1/batch in chunks of 10 urls",
+            groups = { "api", "batch" })
+    public void shouldFetchBoardsInBatchesOfTen() {
+
+        // Arrange - 23 ids, every third one missing
+        List<String> ids = IntStream.range(0, 23)
+                .mapToObj(i -> (i % 3 == 0 ? "missing-" : "ok-") + i)
+                .toList();
+
+        // Act
+        Map<String, Board> boards = TrelloService.getBoardsById(ids);
+
+        // Assert
+        Assert.assertEquals(batchSizes, List.of(10, 10, 3), "Unexpected batch split");
+        Assert.assertEquals(boards.size(), 15, "Only existing boards should be returned");
+        Assert.assertEquals(boards.get("ok-4").getName(), "Board ok-4", "Board mapped incorrectly");
+        Assert.assertFalse(boards.containsKey("missing-3"), "Missing board should be left out");
+        Assert.assertFalse(RunMetrics.snapshot().containsKey(RunMetrics.API + "GET /1/batch"),
+                "Calls to the local stub must not feed the Trello latency baseline");
+    }
+
+    @Test(description = "A batch response with fewer results than urls fails instead of mismatching ids",
+            groups = { "api", "batch" })
+    public void shouldFailWhenBatchResultsDoNotMatchUrls() {
+
+        // Arrange
+        List<String> ids = List.of("ok-1", "drop-2", "ok-3");
+
+        // Act
+        TrelloApiException error = Assert.expectThrows(TrelloApiException.class,
+                () -> TrelloService.getBoardsById(ids));
+
+        // Assert
+        Assert.assertTrue(error.getMessage().contains("2 results for 3"), error.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.API.scenario.BoardScenario;
+import com.barreragerman.API.scenario.BoardScenarios;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Offline checks of the scenario generator; the scenarios themselves only run against live Trello.
+ */
+public class BoardScenariosTests {
+
+    private static List<BoardScenario> generate(int count, long seed) {
+        List<BoardScenario> scenarios = new ArrayList<>();
+        Iterator<Object[]> iterator = BoardScenarios.stream(count, seed, 8);
+        iterator.forEachRemaining(parameters -> scenarios.add((BoardScenario) parameters[0]));
+        return scenarios;
+    }
+
+    // Lo que el test realmente manda: el nombre, el id o los nombres de la carrera
+    private static String payload(BoardScenario scenario) {
+        return switch (scenario.getKind()) {
+            case NAME -> scenario.name();
+            case ID -> scenario.boardId();
+            case RENAME_RACE -> String.join(",", scenario.raceNames());
+        };
+    }
+
+    @Test(description = "The same seed generates the same scenarios and payloads, another seed does not",
+            groups = { "generator" })
+    public void sameSeedSameScenarios() {
+        // Act
+        List<BoardScenario> first = generate(200, 42);
+        List<BoardScenario> second = generate(200, 42);
+        List<BoardScenario> other = generate(200, 43);
+
+        // Assert
+        Assert.assertEquals(second.toString(), first.toString());
+        Assert.assertEquals(second.stream().map(BoardScenariosTests::payload).toList(),
+                first.stream().map(BoardScenariosTests::payload).toList(), "Payloads must be rebuilt identically");
+        Assert.assertNotEquals(other.stream().map(BoardScenariosTests::payload).toList(),
+                first.stream().map(BoardScenariosTests::payload).toList());
+    }
+
+    @Test(description = "Out of every 10 scenarios 6 are names, 3 are ids and 1 is a rename race",
+            groups = { "generator" })
+    public void scenarioMix() {
+        // Act
+        Map<BoardScenario.Kind, Long> kinds = generate(100, 7).stream()
+                .collect(Collectors.groupingBy(BoardScenario::getKind, Collectors.counting()));
+
+        // Assert
+        Assert.assertEquals(kinds, Map.of(
+                BoardScenario.Kind.NAME, 60L,
+                BoardScenario.Kind.ID, 30L,
+                BoardScenario.Kind.RENAME_RACE, 10L));
+    }
+
+    @Test(description = "Expected status per scenario: name length and alphabet, id format, races",
+            groups = { "generator" })
+    public void expectedStatusTable() {
+        // Arrange
+        Map<BoardScenario, Integer> table = Map.of(
+                BoardScenario.name(0, 1, BoardScenario.Alphabet.ASCII, 0), 400,
+                BoardScenario.name(1, 1, BoardScenario.Alphabet.CJK, 1), 200,
+                BoardScenario.name(2, 1, BoardScenario.Alphabet.EMOJI, BoardScenario.MAX_NAME_LENGTH), 200,
+                BoardScenario.name(3, 1, BoardScenario.Alphabet.ASCII, BoardScenario.MAX_NAME_LENGTH + 1), 400,
+                BoardScenario.name(4, 1, BoardScenario.Alphabet.WHITESPACE, 4), 400,
+                BoardScenario.id(5, 1, BoardScenario.IdFormat.HEX_24, 24), 404,
+                BoardScenario.id(6, 1, BoardScenario.IdFormat.HEX_SHORT, 7), 400,
+                BoardScenario.id(7, 1, BoardScenario.IdFormat.HEX_LONG, 30), 400,
+                BoardScenario.id(8, 1, BoardScenario.IdFormat.NON_HEX_24, 24), 400,
+                BoardScenario.renameRace(9, 1, 3), 200);
+
+        // Act
+        Map<BoardScenario, Integer> actual = table.keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), BoardScenario::expectedStatus));
+
+        // Assert
+        Assert.assertEquals(actual, table);
+    }
+
+    @Test(description = "Names keep their exact code point length and carry the sweeper prefix when they fit",
+            groups = { "generator" })
+    public void namesKeepLengthAndPrefix() {
+        // Arrange
+        BoardScenario longest = BoardScenario.name(0, 5, BoardScenario.Alphabet.EMOJI, BoardScenario.MAX_NAME_LENGTH);
+        BoardScenario tiny = BoardScenario.name(1, 5, BoardScenario.Alphabet.LATIN, 2);
+        BoardScenario blank = BoardScenario.name(2, 5, BoardScenario.Alphabet.WHITESPACE, 20);
+
+        // Act
+        String longestName = longest.name();
+
+        // Assert
+        Assert.assertEquals(longestName.codePointCount(0, longestName.length()), BoardScenario.MAX_NAME_LENGTH);
+        Assert.assertTrue(longestName.startsWith(TrelloService.BOARD_NAME_PREFIX));
+        Assert.assertEquals(tiny.name().codePointCount(0, tiny.name().length()), 2);
+        // isBlank no cuenta el espacio duro ni el ideografico como blancos
+        Assert.assertTrue(blank.name().codePoints().allMatch(c -> c == '\t' || Character.isSpaceChar(c)),
+                "Whitespace names must stay whitespace only");
+        Assert.assertTrue(BoardScenario.renameRace(3, 5, 2).raceNames().stream()
+                .allMatch(name -> name.startsWith(TrelloService.BOARD_NAME_PREFIX)));
+    }
+}
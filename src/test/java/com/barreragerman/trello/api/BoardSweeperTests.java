@@ -0,0 +1,65 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.BoardSweeper;
+import com.barreragerman.API.TrelloService;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class BoardSweeperTests {
+
+    private static final String PREFIX = TrelloService.BOARD_NAME_PREFIX;
+
+    // 0x65000000 segundos = 2023-09-12T06:15:28Z
+    private static final String OBJECT_ID = "65000000a1b2c3d4e5f60001";
+    private static final Instant OBJECT_ID_TIME = Instant.ofEpochSecond(0x65000000L);
+
+    @Test(description = "The creation time comes from the millis in the test board name",
+            groups = { "sweeper" })
+    public void ageFromNameMillis() {
+        // Arrange
+        long millis = 1_700_000_000_123L;
+
+        // Act
+        Optional<Instant> created = BoardSweeper.createdAt(PREFIX + millis, OBJECT_ID);
+
+        // Assert
+        Assert.assertEquals(created, Optional.of(Instant.ofEpochMilli(millis)));
+    }
+
+    @Test(description = "A renamed test board falls back to the timestamp embedded in its ObjectId",
+            groups = { "sweeper" })
+    public void ageFromObjectIdWhenNameHasNoMillis() {
+        // Act & Assert
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "renamed", OBJECT_ID), Optional.of(OBJECT_ID_TIME));
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "12345678901234", OBJECT_ID),
+                Optional.of(OBJECT_ID_TIME), "More than 13 digits is not a millis timestamp");
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "x", OBJECT_ID.toUpperCase()), Optional.of(OBJECT_ID_TIME));
+    }
+
+    @Test(description = "A short numeric suffix is not a millis timestamp and falls back to the ObjectId",
+            groups = { "sweeper" })
+    public void ageFromObjectIdWhenNameHasShortNumber() {
+        // Act & Assert
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "7", OBJECT_ID), Optional.of(OBJECT_ID_TIME));
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "170000000012", OBJECT_ID),
+                Optional.of(OBJECT_ID_TIME), "12 digits is not a millis timestamp");
+        Assert.assertEquals(BoardSweeper.createdAt(PREFIX + "42-renamed", OBJECT_ID), Optional.of(OBJECT_ID_TIME));
+    }
+
+    @Test(description = "Malformed ids and foreign boards have no age, so they are never swept",
+            groups = { "sweeper" })
+    public void malformedIdsAndForeignBoardsHaveNoAge() {
+        // Act & Assert
+        Assert.assertTrue(BoardSweeper.createdAt("Roadmap 1700000000123", OBJECT_ID).isEmpty(),
+                "Boards without the test prefix are never touched");
+        Assert.assertTrue(BoardSweeper.createdAt(null, OBJECT_ID).isEmpty());
+        Assert.assertTrue(BoardSweeper.createdAt(PREFIX + "renamed", null).isEmpty());
+        Assert.assertTrue(BoardSweeper.createdAt(PREFIX + "renamed", "65000000a1b2").isEmpty(), "short id");
+        Assert.assertTrue(BoardSweeper.createdAt(PREFIX + "renamed", OBJECT_ID + "00").isEmpty(), "long id");
+        Assert.assertTrue(BoardSweeper.createdAt(PREFIX + "renamed", "zz000000a1b2c3d4e5f60001").isEmpty(),
+                "non-hex id");
+    }
+}
@@ -0,0 +1,74 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.API.webhook.BoardEvent;
+import com.barreragerman.API.webhook.WebhookReceiver;
+import com.barreragerman.trello.support.FakeTrello;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+public class BoardWebhookTests {
+
+    private static final String BOARD_ID = "64f1c9e8a1b2c3d4e5f60002";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private FakeTrello fakeTrello;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFakeTrello() {
+        // Devuelve el board con el nombre recibido (create / update) o vacio (delete)
+        fakeTrello = FakeTrello.start().route("/1/boards", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            String name = query.replaceAll(".*name=([^&]*).*", "$1");
+            FakeTrello.respondJson(exchange, 200, "{\"id\":\"" + BOARD_ID + "\",\"name\":\"" + name + "\"}");
+        });
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void useFakeTrello() {
+        fakeTrello.use(Map.of("trello.webhook.mode", "local"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseConfig() {
+        FakeTrello.release();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeTrello() {
+        fakeTrello.stop();
+    }
+
+    @Test(description = "Await board create/update/delete events from the local webhook stand-in",
+            groups = { "api", "webhook" })
+    public void shouldReceiveBoardLifecycleEvents() {
+
+        try (WebhookReceiver receiver = WebhookReceiver.start()) {
+            receiver.watchMember();
+
+            // Act & Assert - creation reaches member webhooks
+            Board board = TrelloService.createBoard();
+            BoardEvent created = receiver.events().await(board.getId(), BoardEvent.Type.CREATED, TIMEOUT);
+            Assert.assertEquals(created.getBoardName(), board.getName(), "Created event has wrong board name");
+
+            // Act & Assert - update and delete
+            receiver.watchBoard(board.getId());
+            TrelloService.updateBoardName(board.getId(), "Renamed");
+            BoardEvent updated = receiver.events().await(
+                    event -> event.getType() == BoardEvent.Type.UPDATED && "Renamed".equals(event.getBoardName()),
+                    TIMEOUT, "rename event");
+            Assert.assertEquals(updated.getActionType(), "updateBoard", "Unexpected action type");
+
+            TrelloService.deleteBoard(board.getId());
+            receiver.events().await(board.getId(), BoardEvent.Type.DELETED, TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.API.cassette.Cassettes;
+import com.barreragerman.ResourceWatchdog;
+import com.barreragerman.expections.CassetteException;
+import com.barreragerman.trello.support.FakeTrello;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CassetteReplayTests {
+
+    private static final String TOKEN = "secret-token-123";
+
+    private final AtomicInteger serverHits = new AtomicInteger();
+    private FakeTrello fakeTrello;
+    private Path cassetteDir;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFakeTrello() throws IOException {
+        // el token viaja en el body para validar que se scrubea antes de grabar
+        fakeTrello = FakeTrello.start().route("/1/boards", exchange -> {
+            serverHits.incrementAndGet();
+            FakeTrello.respondJson(exchange, 200, "{\"id\":\"64f1c9e8a1b2c3d4e5f60001\",\"name\":\"Recorded\","
+                    + "\"url\":\"https://trello.com/b/x?token=" + TOKEN + "\"}");
+        });
+        cassetteDir = Files.createTempDirectory("cassettes");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseConfig() {
+        FakeTrello.release();
+    }
+
+    @Test(description = "Record Trello traffic into a cassette and replay it without network",
+            groups = { "api", "cassette" })
+    public void shouldReplayRecordedTrafficWithoutNetwork() throws IOException {
+
+        // Arrange - record against the fake server
+        useMode("record");
+        Cassettes.insert("roundtrip");
+        Board recorded = TrelloService.createBoard();
+        TrelloService.getBoardById(recorded.getId());
+        Cassettes.eject(true);
+        // el board solo existe en el stub, el watchdog no tiene nada que borrar al final de la suite
+        ResourceWatchdog.global().release(recorded.getId());
+
+        byte[] cassette = Files.readAllBytes(cassetteDir.resolve("roundtrip.cassette"));
+        Assert.assertFalse(new String(cassette, StandardCharsets.ISO_8859_1).contains(TOKEN),
+                "Token was written to the cassette");
+
+        // Act - replay with the server stopped
+        fakeTrello.stop();
+        int hitsBeforeReplay = serverHits.get();
+        useMode("replay");
+        Cassettes.insert("roundtrip");
+        Board replayed = TrelloService.createBoard();
+        Board retrieved = TrelloService.getBoardById(replayed.getId());
+
+        // Assert
+        Assert.assertEquals(replayed.getId(), recorded.getId(), "Replayed board id mismatch");
+        Assert.assertEquals(retrieved.getName(), "Recorded", "Replayed board name mismatch");
+        Assert.assertEquals(serverHits.get(), hitsBeforeReplay, "Replay reached the network");
+        Assert.assertFalse(ResourceWatchdog.global().isRegistered(replayed.getId()),
+                "Replayed boards never existed and must not be tracked");
+
+        // A request that was never recorded means the cassette is stale
+        Assert.assertThrows(CassetteException.class,
+                () -> TrelloService.getBoardById(replayed.getId()));
+        Cassettes.eject(false);
+
+        // Replay without a cassette fails closed instead of reaching the network
+        Assert.assertThrows(CassetteException.class,
+                () -> TrelloService.getBoardById(replayed.getId()));
+    }
+
+    private void useMode(String mode) {
+        fakeTrello.use(Map.of(
+                "trello.token", TOKEN,
+                "trello.cassette.dir", cassetteDir.toString(),
+                "trello.cassette.mode", mode));
+    }
+}
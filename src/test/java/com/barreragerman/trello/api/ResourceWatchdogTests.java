@@ -0,0 +1,108 @@
+package com.barreragerman.trello.api;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.ResourceWatchdog;
+import com.barreragerman.trello.support.FakeTrello;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Each test uses its own watchdog: the global one belongs to ResourceWatchdogListener and
+ * cleaning it up here would kill the resources of tests running in parallel.
+ */
+public class ResourceWatchdogTests {
+
+    private static final String BOARD_ID = "64f1c9e8a1b2c3d4e5f60003";
+
+    private FakeTrello fakeTrello;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFakeTrello() {
+        fakeTrello = FakeTrello.start().route("/1/boards", exchange ->
+                FakeTrello.respondJson(exchange, 200, "{\"id\":\"" + BOARD_ID + "\",\"name\":\"PinAppBoard-1\"}"));
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void useFakeTrello() {
+        fakeTrello.use();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseConfig() {
+        FakeTrello.release();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeTrello() {
+        fakeTrello.stop();
+    }
+
+    @Test(description = "Boards, sessions and their processes left behind are cleaned up and reported",
+            groups = { "watchdog" })
+    public void shouldCleanUpAndReportLeaks() throws IOException {
+
+        // Arrange - a board nobody deletes, a driver nobody quits and its service process
+        ResourceWatchdog watchdog = new ResourceWatchdog();
+        AtomicInteger boardDeletes = new AtomicInteger();
+        AtomicInteger quits = new AtomicInteger();
+        Process service = new ProcessBuilder("sleep", "60").start();
+        watchdog.register(ResourceWatchdog.Kind.BOARD, BOARD_ID, "PinAppBoard-1", boardDeletes::incrementAndGet);
+        watchdog.registerDriver(new Object(), "web fake", quits::incrementAndGet, Set.of(service.pid()));
+
+        // Act
+        List<String> leaks = watchdog.cleanUp("test");
+
+        // Assert
+        Assert.assertEquals(boardDeletes.get(), 1, "Leaked board should be deleted");
+        Assert.assertEquals(quits.get(), 1, "Leaked driver should be quit");
+        Assert.assertFalse(service.isAlive(), "The driver's service process should be killed");
+        Assert.assertTrue(leaks.stream().anyMatch(leak -> leak.contains("PinAppBoard-1")), "Board not reported: " + leaks);
+        Assert.assertTrue(leaks.stream().anyMatch(leak -> leak.contains("web fake")), "Driver not reported: " + leaks);
+        Assert.assertEquals(watchdog.registeredCount(), 0, "Nothing should stay registered");
+    }
+
+    @Test(description = "Released resources are not reported and failed cleanups are",
+            groups = { "watchdog" })
+    public void shouldOnlyReportWhatIsStillRegistered() {
+
+        // Arrange
+        ResourceWatchdog watchdog = new ResourceWatchdog();
+        watchdog.register(ResourceWatchdog.Kind.BOARD, "released", "PinAppBoard-released", () -> { });
+        watchdog.register(ResourceWatchdog.Kind.BOARD, "stuck", "PinAppBoard-stuck", () -> {
+            throw new IllegalStateException("Trello is down");
+        });
+        watchdog.release("released");
+
+        // Act
+        List<String> leaks = watchdog.cleanUp("test");
+
+        // Assert
+        Assert.assertEquals(leaks.size(), 1, leaks.toString());
+        Assert.assertTrue(leaks.get(0).contains("PinAppBoard-stuck") && leaks.get(0).contains("Trello is down"),
+                leaks.get(0));
+    }
+
+    @Test(description = "Boards created and deleted through TrelloService leave nothing registered",
+            groups = { "api", "watchdog" })
+    public void shouldReleaseDeletedBoards() {
+
+        // Act
+        Board board = TrelloService.createBoard();
+        boolean trackedWhileAlive = ResourceWatchdog.global().isRegistered(board.getId());
+        TrelloService.deleteBoard(board.getId());
+
+        // Assert
+        Assert.assertTrue(trackedWhileAlive, "Created board should be tracked");
+        Assert.assertFalse(ResourceWatchdog.global().isRegistered(board.getId()), "Deleted board still tracked");
+    }
+}
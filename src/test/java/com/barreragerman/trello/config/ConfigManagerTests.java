@@ -0,0 +1,77 @@
+package com.barreragerman.trello.config;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+public class ConfigManagerTests {
+
+    @Test(description = "Profile file < external file < environment < system properties",
+            groups = { "config" })
+    public void shouldResolveSourcesInPrecedenceOrder() throws IOException {
+
+        // Arrange
+        Path external = Files.createTempFile("config", ".properties");
+        Files.writeString(external, "sweeper.ttlMinutes=45\nperf.gate.minRuns=9\nrun.threads=2\n");
+        Properties system = properties(
+                "config.profile", "unittest",
+                "config.file", external.toString(),
+                "run.threads", "6");
+        Map<String, String> env = Map.of("PERF_GATE_MIN_RUNS", "11", "RUN_THREADS", "4");
+
+        // Act
+        ConfigSnapshot config = ConfigManager.resolve(env, system);
+
+        // Assert
+        Assert.assertEquals(config.getProfile(), "unittest");
+        Assert.assertEquals(config.getBrowser(), "firefox", "Profile should override the default");
+        Assert.assertEquals(config.getInt("sweeper.ttlMinutes", 0), 45, "External file should override the profile");
+        Assert.assertEquals(config.getInt("perf.gate.minRuns", 0), 11, "Environment should override the files");
+        Assert.assertEquals(config.getThreadCount(), 6, "System properties should win");
+    }
+
+    @Test(description = "Environment variables can set keys no file defines",
+            groups = { "config" })
+    public void shouldReadKeysOnlyPresentInEnvironment() {
+        ConfigSnapshot config = ConfigManager.resolve(
+                Map.of("SWEEPER_REQUESTS_PER_SECOND", "3.5", "TRELLO_BASE_URL", "http://stub"), new Properties());
+
+        Assert.assertEquals(config.getDouble("sweeper.requestsPerSecond", 0), 3.5);
+        Assert.assertEquals(config.getTrelloBaseUrl(), "http://stub");
+        Assert.assertNull(config.getString("missing.key"));
+    }
+
+    @Test(description = "An unknown profile is a configuration error",
+            groups = { "config" },
+            expectedExceptions = IllegalStateException.class)
+    public void shouldRejectUnknownProfile() {
+        ConfigManager.resolve(Map.of(), properties("config.profile", "does-not-exist"));
+    }
+
+    @Test(description = "Reload publishes a new snapshot and leaves the old one untouched",
+            groups = { "config" })
+    public void shouldPublishNewSnapshotOnReload() {
+        ConfigSnapshot before = ConfigManager.current();
+
+        ConfigSnapshot reloaded = ConfigManager.reload();
+
+        Assert.assertSame(ConfigManager.current(), reloaded);
+        Assert.assertNotSame(reloaded, before);
+        Assert.assertEquals(reloaded.getBrowser(), before.getBrowser());
+    }
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+}
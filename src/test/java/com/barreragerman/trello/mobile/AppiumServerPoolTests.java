@@ -0,0 +1,33 @@
+package com.barreragerman.trello.mobile;
+
+import com.barreragerman.expections.GridException;
+import com.barreragerman.mobile.AppiumServerPool;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+public class AppiumServerPoolTests {
+
+    @Test(description = "Leases spread over servers and wait when all of them are busy",
+            groups = { "mobile", "grid" })
+    public void shouldLeaseServersRoundRobinAndQueueWhenFull() {
+
+        // Arrange
+        AppiumServerPool pool = new AppiumServerPool(
+                List.of("http://device-a:4723", "http://device-b:4723"), 1);
+
+        // Act
+        URL first = pool.lease(Duration.ofMillis(100));
+        URL second = pool.lease(Duration.ofMillis(100));
+
+        // Assert
+        Assert.assertNotEquals(first, second, "Both servers should be used before reusing one");
+        Assert.assertThrows(GridException.class, () -> pool.lease(Duration.ofMillis(100)));
+
+        pool.release(first);
+        Assert.assertEquals(pool.lease(Duration.ofMillis(100)), first, "Released server should be leased again");
+    }
+}
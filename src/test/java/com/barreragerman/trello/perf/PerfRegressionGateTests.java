@@ -0,0 +1,91 @@
+package com.barreragerman.trello.perf;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.perf.MetricSummary;
+import com.barreragerman.perf.PerfGate;
+import com.barreragerman.perf.PerfHistory;
+import com.barreragerman.perf.RegressionGate;
+import com.barreragerman.perf.RunMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class PerfRegressionGateTests {
+
+    private static final String ENDPOINT = "api GET /1/boards/{id}";
+    private static final String NEW_TEST = "test ApiBoardTests.shouldRenameBoard";
+
+    private final RegressionGate gate = new RegressionGate(5, 3, 0.2, 50, 0.05);
+
+    @Test(description = "A run much slower than the stored baseline is reported; normal jitter is not",
+            groups = { "perf" })
+    public void shouldFlagOnlySignificantSlowdowns() throws IOException {
+
+        // Arrange - six previous runs around 300 ms, stored and read back from disk
+        PerfHistory history = new PerfHistory(Files.createTempDirectory("perf").resolve("suite.jsonl"));
+        for (double mean : new double[] { 290, 310, 305, 295, 300, 302 }) {
+            history.append(Map.of(ENDPOINT, new MetricSummary(20, mean, 40)));
+        }
+        List<Map<String, MetricSummary>> baseline = history.lastRuns(10);
+
+        // Act
+        List<RegressionGate.Regression> slow = gate.compare(Map.of(
+                ENDPOINT, new MetricSummary(20, 520, 60),
+                NEW_TEST, new MetricSummary(1, 9000, 0)), baseline);
+        List<RegressionGate.Regression> jitter = gate.compare(Map.of(
+                ENDPOINT, new MetricSummary(20, 330, 45)), baseline);
+
+        // Assert
+        Assert.assertEquals(baseline.size(), 6, "History should keep one line per run");
+        Assert.assertEquals(slow.size(), 1, "Only the endpoint with a baseline can regress: " + slow);
+        Assert.assertEquals(slow.get(0).metric(), ENDPOINT);
+        Assert.assertTrue(jitter.isEmpty(), "10% jitter should not be a regression: " + jitter);
+    }
+
+    @Test(description = "The gate verdict is written next to the history, replacing the previous one",
+            groups = { "perf" })
+    public void shouldWriteVerdictFile() throws IOException {
+
+        // Arrange
+        PerfHistory history = new PerfHistory(Files.createTempDirectory("perf").resolve("suite.jsonl"));
+        RegressionGate.Regression regression = new RegressionGate.Regression(ENDPOINT, 520, 300, 5.5);
+
+        // Act
+        history.writeVerdict(List.of(regression), 6);
+        String regressed = Files.readString(history.verdictFile());
+        history.writeVerdict(List.of(), 7);
+        String passed = Files.readString(history.verdictFile());
+
+        // Assert
+        Assert.assertEquals(history.verdictFile().getFileName().toString(), "suite.verdict.json");
+        Assert.assertTrue(regressed.contains("\"status\":\"REGRESSED\"") && regressed.contains(ENDPOINT), regressed);
+        Assert.assertTrue(passed.contains("\"status\":\"PASSED\"") && passed.contains("\"regressions\":[]"), passed);
+    }
+
+    @Test(description = "The gate records the suite duration and judges each suite run only once",
+            groups = { "perf" })
+    public void shouldEvaluateSuiteOnce() throws IOException {
+
+        // Arrange
+        Path dir = Files.createTempDirectory("perf");
+        ConfigSnapshot config = ConfigManager.current().with(Map.of("perf.history.dir", dir.toString()));
+        PerfGate.suiteStarted("Gate Suite");
+
+        // Act
+        List<RegressionGate.Regression> first = PerfGate.evaluate("Gate Suite", config);
+        List<RegressionGate.Regression> second = PerfGate.evaluate("Gate Suite", config);
+
+        // Assert
+        List<Map<String, MetricSummary>> runs = new PerfHistory(dir.resolve("Gate_Suite.jsonl")).lastRuns(10);
+        Assert.assertTrue(first.isEmpty(), "No baseline yet, nothing can regress: " + first);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(runs.size(), 1, "A suite run is appended once");
+        Assert.assertTrue(runs.get(0).containsKey(RunMetrics.SUITE + "Gate Suite"), runs.get(0).keySet().toString());
+    }
+}
@@ -0,0 +1,32 @@
+package com.barreragerman.trello.perfgate;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.perf.PerfGate;
+import com.barreragerman.perf.RegressionGate;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Last test of the suite (its own {@code <test>} after all others in testng.xml): compares the
+ * run with the performance history. A regression fails it with {@code perf.gate.failBuild=true}
+ * and skips it otherwise, so it shows up in the report either way.
+ */
+public class PerformanceGateTest {
+
+    @Test(description = "The suite did not get slower than its rolling baseline",
+            groups = { "perf" })
+    public void suiteDidNotGetSlower(ITestContext context) {
+        ConfigSnapshot config = ConfigManager.current();
+        List<RegressionGate.Regression> regressions = PerfGate.evaluate(context.getSuite().getName(), config);
+
+        if (!regressions.isEmpty() && !config.getBoolean("perf.gate.failBuild", false)) {
+            throw new SkipException("Performance regressions, not failing the build: " + regressions);
+        }
+        Assert.assertTrue(regressions.isEmpty(), "Performance regressions: " + regressions);
+    }
+}
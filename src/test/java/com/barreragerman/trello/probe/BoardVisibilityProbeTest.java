@@ -0,0 +1,38 @@
+package com.barreragerman.trello.probe;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.listeners.TestListener;
+import com.barreragerman.probe.LatencyDistribution;
+import com.barreragerman.probe.ProbeReport;
+import com.barreragerman.probe.VisibilityProbe;
+import io.qameta.allure.testng.AllureTestNg;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners({ AllureTestNg.class, TestListener.class })
+public class BoardVisibilityProbeTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Test(description = "Measure API-to-UI propagation latency of new boards on Web and Mobile",
+            groups = { "probe" })
+    public void shouldPropagateBoardsWithinBudget() {
+
+        ProbeReport report = VisibilityProbe.fromConfig().run();
+        logger.info("{}", report);
+
+        long p90Budget = ConfigManager.current().getLong("probe.budget.p90Millis", -1);
+
+        for (LatencyDistribution platform : report.getPlatforms().values()) {
+            Assert.assertEquals(platform.getTimeouts(), 0,
+                    "Boards never became visible on " + platform.getPlatform());
+            if (p90Budget >= 0) {
+                Assert.assertTrue(platform.percentile(90) <= p90Budget,
+                        "p90 propagation on " + platform.getPlatform() + " exceeded " + p90Budget + " ms");
+            }
+        }
+    }
+}
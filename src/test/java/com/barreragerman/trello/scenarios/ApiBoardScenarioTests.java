@@ -0,0 +1,147 @@
+package com.barreragerman.trello.scenarios;
+
+import com.barreragerman.API.Board;
+import com.barreragerman.API.RequestThrottle;
+import com.barreragerman.API.TrelloClient;
+import com.barreragerman.API.TrelloService;
+import com.barreragerman.API.cassette.CassetteMode;
+import com.barreragerman.API.cassette.Cassettes;
+import com.barreragerman.API.scenario.BoardScenario;
+import com.barreragerman.API.scenario.BoardScenarios;
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs against live Trello only, from its own suite: {@code -DsuiteXmlFile=scenarios.xml}.
+ */
+public class ApiBoardScenarioTests {
+
+    private RequestThrottle throttle;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpThrottle() {
+        if (Cassettes.mode() == CassetteMode.REPLAY) {
+            throw new SkipException("Generated scenarios change every seed, they cannot be replayed from cassettes");
+        }
+        throttle = new RequestThrottle(ConfigManager.current().getDouble("scenarios.requestsPerSecond", 8));
+    }
+
+    // Iterador perezoso: cada escenario se arma recien cuando TestNG lo pide
+    @DataProvider(name = "boardScenarios", parallel = true)
+    public Iterator<Object[]> boardScenarios() {
+        return BoardScenarios.fromConfig(ConfigManager.current());
+    }
+
+    @Test(description = "Generated board names, ids and concurrent renames are handled by the API",
+            dataProvider = "boardScenarios",
+            groups = { "scenarios" })
+    public void shouldHandleBoardScenario(BoardScenario scenario) {
+        switch (scenario.getKind()) {
+            case NAME -> checkName(scenario);
+            case ID -> checkId(scenario);
+            case RENAME_RACE -> checkRenameRace(scenario);
+        }
+    }
+
+    private void checkName(BoardScenario scenario) {
+        String name = scenario.name();
+
+        // Act - el nombre va en el body, 16k caracteres no entran en la URL
+        throttle.acquire();
+        Response response = TrelloClient.sendWithBody(Method.POST, "/1/boards", Map.of("name", name));
+        String boardId = response.statusCode() == 200 ? response.jsonPath().getString("id") : null;
+        if (boardId != null) {
+            // creado con un request crudo: el watchdog lo borra si el test no llega al finally
+            TrelloService.trackBoard(boardId, name);
+        }
+
+        try {
+            // Assert
+            Assert.assertEquals(response.statusCode(), scenario.expectedStatus(),
+                    "Unexpected status for " + scenario + ": " + response.asString());
+            if (boardId != null) {
+                Assert.assertTrue(BoardScenario.sameName(name, response.jsonPath().getString("name")),
+                        "Name not stored as sent for " + scenario);
+            }
+        } finally {
+            if (boardId != null) {
+                throttle.acquire();
+                TrelloService.deleteBoardStatusCode(boardId);
+            }
+        }
+    }
+
+    private void checkId(BoardScenario scenario) {
+        throttle.acquire();
+        int statusCode = TrelloService.getBoardStatusCode(scenario.boardId());
+
+        Assert.assertEquals(statusCode, scenario.expectedStatus(), "Unexpected status for " + scenario);
+    }
+
+    private void checkRenameRace(BoardScenario scenario) {
+        // Arrange
+        throttle.acquire();
+        Board board = TrelloService.createBoard();
+        List<String> names = scenario.raceNames();
+        ExecutorService racers = Executors.newFixedThreadPool(names.size());
+
+        try {
+            // Act - cada racer pide su turno al throttle; los PUT se solapan en vuelo sin salir en rafaga
+            List<CompletableFuture<Integer>> renames = names.stream()
+                    .map(name -> CompletableFuture.supplyAsync(inTestContext(() -> {
+                        throttle.acquire();
+                        return TrelloClient.send(Method.PUT, "/1/boards/{id}", Map.of("name", name), board.getId())
+                                .statusCode();
+                    }), racers))
+                    .toList();
+            List<Integer> statuses = renames.stream().map(CompletableFuture::join).toList();
+
+            // Assert - cada renombre responde bien y gana exactamente uno de ellos
+            Assert.assertTrue(statuses.stream().allMatch(status -> status == 200),
+                    "Rename failed in " + scenario + ": " + statuses);
+            throttle.acquire();
+            String finalName = TrelloService.getBoardById(board.getId()).getName();
+            Assert.assertTrue(names.contains(finalName),
+                    "Final name " + finalName + " is none of the racing names in " + scenario);
+        } finally {
+            racers.shutdown();
+            throttle.acquire();
+            TrelloService.deleteBoardStatusCode(board.getId());
+        }
+    }
+
+    /**
+     * Runs a racer with the test's config, log testId and cassette, as if it were the test thread.
+     */
+    private static <T> Supplier<T> inTestContext(Supplier<T> task) {
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+        ConfigSnapshot config = ConfigManager.current();
+        Supplier<T> withCassette = Cassettes.bind(task);
+        return () -> {
+            ThreadContext.putAll(logContext);
+            ConfigManager.useOnCurrentThread(config);
+            try {
+                return withCassette.get();
+            } finally {
+                ConfigManager.clearCurrentThread();
+                ThreadContext.clearMap();
+            }
+        };
+    }
+}
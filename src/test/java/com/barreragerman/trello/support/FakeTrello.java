@@ -0,0 +1,91 @@
+package com.barreragerman.trello.support;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stub Trello server for offline tests. {@link #use(Map)} points only the calling thread at it
+ * through a derived {@link ConfigSnapshot}; system properties and the credentials given with
+ * {@code -D} stay untouched, so other test classes and parallel workers are not affected.
+ * <pre>
+ * &#64;BeforeClass  fakeTrello = FakeTrello.start().route("/1/boards", handler);
+ * &#64;BeforeMethod fakeTrello.use();
+ * &#64;AfterMethod  FakeTrello.release();
+ * &#64;AfterClass   fakeTrello.stop();
+ * </pre>
+ */
+public final class FakeTrello {
+
+    private final HttpServer server;
+
+    private FakeTrello(HttpServer server) {
+        this.server = server;
+    }
+
+    public static FakeTrello start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.start();
+            return new FakeTrello(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start fake Trello", e);
+        }
+    }
+
+    public FakeTrello route(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Current configuration pointed at this server, plus the given extra values.
+     */
+    public ConfigSnapshot config(Map<String, String> extra) {
+        Map<String, String> overrides = new HashMap<>(Map.of(
+                "trello.baseUrl", baseUrl(),
+                "trello.key", "test-key",
+                "trello.token", "test-token"));
+        overrides.putAll(extra);
+        return ConfigManager.current().with(overrides);
+    }
+
+    public void use() {
+        use(Map.of());
+    }
+
+    public void use(Map<String, String> extra) {
+        // se parte de la configuracion global, no de un override previo de este hilo
+        release();
+        ConfigManager.useOnCurrentThread(config(extra));
+    }
+
+    public static void release() {
+        ConfigManager.clearCurrentThread();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public static void respondJson(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
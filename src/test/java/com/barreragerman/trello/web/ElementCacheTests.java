@@ -0,0 +1,186 @@
+package com.barreragerman.trello.web;
+
+import com.barreragerman.locator.ElementCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ElementCacheTests {
+
+    private static final By BUTTON = By.id("create-board");
+
+    /**
+     * Fake page: every lookup returns a new element; the first one goes stale on its first click.
+     */
+    private static class FakePage implements SearchContext {
+
+        final AtomicInteger lookups = new AtomicInteger();
+        final List<AtomicInteger> clicksPerElement = new ArrayList<>();
+        int missingLookups;
+        boolean firstElementGoesStale;
+
+        @Override
+        public WebElement findElement(By by) {
+            lookups.incrementAndGet();
+            if (missingLookups > 0) {
+                missingLookups--;
+                throw new NoSuchElementException("not rendered yet: " + by);
+            }
+            AtomicInteger clicks = new AtomicInteger();
+            boolean stale = firstElementGoesStale && clicksPerElement.isEmpty();
+            clicksPerElement.add(clicks);
+            return fakeElement(clicks, stale);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of(findElement(by));
+        }
+    }
+
+    /**
+     * Fake browser page: answers the batched lookup script with one element per locator.
+     */
+    private static class FakeBrowserPage extends FakePage implements JavascriptExecutor {
+
+        final AtomicInteger scripts = new AtomicInteger();
+        final List<Object> scriptLocators = new ArrayList<>();
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            scripts.incrementAndGet();
+            List<?> batch = (List<?>) args[0];
+            scriptLocators.addAll(batch);
+            List<WebElement> found = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                AtomicInteger clicks = new AtomicInteger();
+                clicksPerElement.add(clicks);
+                found.add(fakeElement(clicks, false));
+            }
+            return found;
+        }
+
+        @Override
+        public Object executeAsyncScript(String script, Object... args) {
+            throw new UnsupportedOperationException("executeAsyncScript");
+        }
+    }
+
+    private static WebElement fakeElement(AtomicInteger clicks, boolean stale) {
+        return (WebElement) Proxy.newProxyInstance(ElementCacheTests.class.getClassLoader(),
+                new Class<?>[] { WebElement.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "click" -> {
+                            if (stale) {
+                                throw new StaleElementReferenceException("element is not attached to the page");
+                            }
+                            clicks.incrementAndGet();
+                            return null;
+                        }
+                        case "getText" -> {
+                            return "Create board";
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test(description = "A cached handle is reused until the cache is invalidated",
+            groups = { "web", "locator" })
+    public void handleIsReusedUntilInvalidated() {
+        // Arrange
+        FakePage page = new FakePage();
+        ElementCache cache = new ElementCache(page);
+        WebElement button = cache.get(BUTTON);
+
+        // Act
+        button.getText();
+        button.click();
+        int lookupsBeforeInvalidate = page.lookups.get();
+        cache.invalidate();
+        button.click();
+
+        // Assert
+        Assert.assertEquals(lookupsBeforeInvalidate, 1, "The element should be looked up once");
+        Assert.assertEquals(page.lookups.get(), 2, "Invalidate should force a new lookup");
+        Assert.assertSame(cache.get(BUTTON), button, "The same proxy is handed out for a locator");
+    }
+
+    @Test(description = "A stale handle is looked up again and the command retried once",
+            groups = { "web", "locator" })
+    public void staleHandleIsRecovered() {
+        // Arrange
+        FakePage page = new FakePage();
+        page.firstElementGoesStale = true;
+        WebElement button = new ElementCache(page).get(BUTTON);
+
+        // Act
+        button.click();
+        button.click();
+
+        // Assert
+        Assert.assertEquals(page.lookups.get(), 2, "Only the stale handle should trigger a new lookup");
+        Assert.assertEquals(page.clicksPerElement.get(0).get(), 0, "The stale element never executed the click");
+        Assert.assertEquals(page.clicksPerElement.get(1).get(), 2, "The fresh handle should be cached afterwards");
+    }
+
+    @Test(description = "With a lookup timeout the cache polls until the element is rendered",
+            groups = { "web", "locator" })
+    public void lookupTimeoutWaitsForElement() {
+        // Arrange
+        FakePage slowPage = new FakePage();
+        slowPage.missingLookups = 2;
+        FakePage missingPage = new FakePage();
+        missingPage.missingLookups = Integer.MAX_VALUE;
+
+        // Act
+        new ElementCache(slowPage, Duration.ofSeconds(5)).get(BUTTON).click();
+
+        // Assert
+        Assert.assertEquals(slowPage.lookups.get(), 3);
+        Assert.assertThrows(NoSuchElementException.class,
+                () -> new ElementCache(missingPage).get(BUTTON).click());
+        Assert.assertEquals(missingPage.lookups.get(), 1, "Without a timeout there is a single lookup");
+    }
+
+    @Test(description = "One script call resolves several id/css/xpath/tag locators and fills the cache",
+            groups = { "web", "locator" })
+    public void prefetchResolvesLocatorsInOneCall() {
+        // Arrange
+        FakeBrowserPage page = new FakeBrowserPage();
+        ElementCache cache = new ElementCache(page);
+        By title = By.cssSelector("h1.board-title");
+        By input = By.xpath("//input[@name='name']");
+        By form = By.tagName("form");
+        By help = By.linkText("Help");
+
+        // Act
+        cache.prefetch(BUTTON, title, input, form, help);
+        cache.prefetch(BUTTON, title);
+        cache.get(BUTTON).click();
+        cache.get(title).click();
+        cache.get(input).click();
+        cache.get(form).click();
+        cache.get(help).click();
+
+        // Assert
+        Assert.assertEquals(page.scripts.get(), 1, "Resolved locators should not be fetched again");
+        Assert.assertEquals(page.scriptLocators.size(), 4, "Link text is not batched: " + page.scriptLocators);
+        Assert.assertEquals(page.scriptLocators.stream().map(locator -> ((List<?>) locator).get(0)).toList(),
+                List.of("id", "css selector", "xpath", "tag name"));
+        Assert.assertEquals(page.lookups.get(), 1, "Only the unbatched locator should be looked up");
+        Assert.assertTrue(page.clicksPerElement.stream().allMatch(clicks -> clicks.get() == 1),
+                "Every click should reach its prefetched element");
+    }
+}
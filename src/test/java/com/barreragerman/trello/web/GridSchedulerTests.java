@@ -0,0 +1,87 @@
+package com.barreragerman.trello.web;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.expections.GridException;
+import com.barreragerman.web.GridScheduler;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class GridSchedulerTests {
+
+    private static final String BUSY_SESSION = "{\"sessionId\":\"abc\"}";
+
+    private volatile String chromeSession = BUSY_SESSION;
+    private HttpServer fakeGrid;
+    private String gridUrl;
+    private ConfigSnapshot config;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFakeGrid() throws IOException {
+        fakeGrid = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Un nodo con un slot de chrome y uno de firefox, maxSessions=1
+        fakeGrid.createContext("/status", exchange -> {
+            String body = "{\"value\":{\"ready\":true,\"nodes\":[{\"availability\":\"UP\",\"maxSessions\":1,"
+                    + "\"slots\":["
+                    + "{\"session\":" + chromeSession + ",\"stereotype\":{\"browserName\":\"chrome\"}},"
+                    + "{\"session\":null,\"stereotype\":{\"browserName\":\"firefox\"}}"
+                    + "]}]}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        fakeGrid.start();
+        gridUrl = "http://localhost:" + fakeGrid.getAddress().getPort();
+
+        config = ConfigManager.current().with(Map.of(
+                "grid.pollMillis", "50",
+                "grid.queueTimeoutSeconds", "1"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeGrid() {
+        fakeGrid.stop(0);
+    }
+
+    @Test(description = "A session waits in queue until the grid frees a slot",
+            groups = { "web", "grid" })
+    public void shouldQueueUntilSlotIsFree() {
+        ScheduledExecutorService releaser = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // Arrange - the chrome session finishes after 300 ms
+            releaser.schedule(() -> chromeSession = "null", 300, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+
+            // Act
+            String session = GridScheduler.forUrl(gridUrl)
+                    .withSlot("chrome", config, () -> "session");
+
+            // Assert
+            Assert.assertEquals(session, "session");
+            Assert.assertTrue(System.currentTimeMillis() - start >= 300, "Session should have been queued");
+        } finally {
+            releaser.shutdownNow();
+            chromeSession = BUSY_SESSION;
+        }
+    }
+
+    @Test(description = "A node at maxSessions has no capacity even with idle slots",
+            groups = { "web", "grid" },
+            expectedExceptions = GridException.class)
+    public void shouldTimeOutWhenNodeIsFull() {
+        GridScheduler.forUrl(gridUrl).withSlot("firefox", config, () -> "session");
+    }
+}
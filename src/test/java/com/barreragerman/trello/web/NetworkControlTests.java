@@ -0,0 +1,77 @@
+package com.barreragerman.trello.web;
+
+import com.barreragerman.ConfigManager;
+import com.barreragerman.ConfigSnapshot;
+import com.barreragerman.web.NetworkControl;
+import com.barreragerman.web.RequestWaterfall;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class NetworkControlTests {
+
+    private static boolean anyMatches(List<Pattern> patterns, String uri) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(uri).matches());
+    }
+
+    private static RequestWaterfall waterfall(String page, int requests, long bytesEach, double endMillis) {
+        List<RequestWaterfall.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            entries.add(new RequestWaterfall.Entry("https://trello.com/asset" + i + ".js", "script",
+                    0, endMillis, bytesEach));
+        }
+        return new RequestWaterfall(page, entries);
+    }
+
+    @Test(description = "Glob block patterns match on '*' and treat everything else literally",
+            groups = { "web", "network" })
+    public void globPatternsMatchLiterally() {
+        // Arrange
+        List<Pattern> patterns = NetworkControl.parsePatterns(List.of("*google-analytics.com/*", "*.png"));
+
+        // Act & Assert
+        Assert.assertTrue(anyMatches(patterns, "https://www.google-analytics.com/collect?v=1"));
+        Assert.assertTrue(anyMatches(patterns, "https://trello.com/img/logo.png"));
+        Assert.assertFalse(anyMatches(patterns, "https://trello.com/img/logoXpng"),
+                "The dot must not behave as a regex wildcard");
+        Assert.assertFalse(anyMatches(patterns, "https://trello.com/img/logo.png?v=2"));
+        Assert.assertTrue(NetworkControl.parsePatterns(List.of()).isEmpty());
+    }
+
+    @Test(description = "Per-page budgets override the global budget and report every violated metric",
+            groups = { "web", "network" })
+    public void pageBudgetOverridesGlobal() {
+        // Arrange
+        ConfigSnapshot config = ConfigManager.current().with(Map.of(
+                "network.budget.maxRequests", "100",
+                "network.budget.BoardsPage.maxRequests", "3",
+                "network.budget.maxBytes", "1000",
+                "network.budget.maxMillis", "5000"));
+
+        // Act
+        List<String> boards = NetworkControl.checkBudget(waterfall("BoardsPage", 4, 300, 6000), config);
+        List<String> login = NetworkControl.checkBudget(waterfall("LoginPage", 4, 100, 200), config);
+
+        // Assert
+        Assert.assertEquals(boards.size(), 3, "requests, bytes and millis are all over budget: " + boards);
+        Assert.assertTrue(boards.get(0).contains("budget is 3"), boards.get(0));
+        Assert.assertTrue(login.isEmpty(), "LoginPage only has the global budget: " + login);
+    }
+
+    @Test(description = "Without configured budgets no page is ever flagged",
+            groups = { "web", "network" })
+    public void noBudgetNoViolations() {
+        // Arrange
+        ConfigSnapshot config = ConfigManager.current().with(Map.of("network.budget.maxRequests", "-1"));
+
+        // Act
+        List<String> violations = NetworkControl.checkBudget(waterfall("BoardsPage", 500, 10_000, 60_000), config);
+
+        // Assert
+        Assert.assertTrue(violations.isEmpty(), violations.toString());
+    }
+}